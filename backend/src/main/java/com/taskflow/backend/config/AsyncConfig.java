@@ -0,0 +1,13 @@
+package com.taskflow.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} methods. They run on Spring Boot's {@code applicationTaskExecutor}, which is
+ * backed by virtual threads when {@code spring.threads.virtual.enabled=true}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,67 @@
+package com.taskflow.backend.config;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.taskflow.backend.dto.TaskResponseDTO;
+
+/**
+ * Applies sparse fieldsets to task payloads: {@code ?fields=id,title,status} limits every serialized
+ * {@link TaskResponseDTO} in the response to the listed properties. Without the parameter, responses
+ * are untouched.
+ */
+@RestControllerAdvice
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(
+            @NonNull MappingJacksonValue bodyContainer,
+            @NonNull MediaType contentType,
+            @NonNull MethodParameter returnType,
+            @NonNull ServerHttpRequest request,
+            @NonNull ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FilterProvider filters = filtersFor(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+        if (filters != null) {
+            bodyContainer.setFilters(filters);
+        }
+    }
+
+    /**
+     * Builds the Jackson filters for a {@code fields} parameter value.
+     *
+     * @param fields comma-separated field names, may be {@code null}
+     * @return filters restricting {@link TaskResponseDTO} properties, or {@code null} if no selection was made
+     */
+    public static FilterProvider filtersFor(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                selected.add(field.trim());
+            }
+        }
+        return new SimpleFilterProvider()
+                .addFilter(TaskResponseDTO.FIELD_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(selected))
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.backend.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Jackson configuration for Zelvo's REST responses.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers a pass-through default for {@code @JsonFilter}-annotated DTOs so they serialize in full
+     * unless {@link FieldSelectionAdvice} supplies a field subset for the current request.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultPropertyFilter() {
+        return builder -> builder.filters(
+                new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Database instrumentation for Zelvo: per-statement timing with slow-query logging, and connection-pool
+ * saturation gauges on top of the standard {@code hikaricp.*} metrics.
+ * <p>
+ * All meters are exposed through the actuator Prometheus endpoint.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Wraps every {@link DataSource} bean in a {@link QueryTimingDataSource}.
+     */
+    @Bean
+    public static BeanPostProcessor queryTimingDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.metrics.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryTimingDataSource)) {
+                    return new QueryTimingDataSource(dataSource, meterRegistry.getObject(), slowQueryThreshold);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Publishes pool utilization (active / max) and waiting threads per connection as ratios, so alerts
+     * do not depend on the configured pool size. Utilization at 1 with waiters above 0 means requests are
+     * queueing for connections.
+     */
+    @Bean
+    public MeterBinder connectionPoolSaturation(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> {
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+            if (hikari == null) {
+                return;
+            }
+            String pool = hikari.getPoolName() != null ? hikari.getPoolName() : "default";
+            Gauge.builder("zelvo.db.pool.utilization", hikari, MetricsConfig::utilization)
+                    .description("Active connections as a fraction of the maximum pool size")
+                    .tag("pool", pool)
+                    .register(registry);
+            Gauge.builder("zelvo.db.pool.wait.ratio", hikari, MetricsConfig::waitRatio)
+                    .description("Threads waiting for a connection per pooled connection")
+                    .tag("pool", pool)
+                    .register(registry);
+        });
+    }
+
+    private static double utilization(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        return pool == null || max <= 0 ? 0 : (double) pool.getActiveConnections() / max;
+    }
+
+    private static double waitRatio(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        return pool == null || max <= 0 ? 0 : (double) pool.getThreadsAwaitingConnection() / max;
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskflow.backend.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link DataSource} decorator that times every JDBC statement execution into the {@value #METRIC}
+ * timer, tagged by SQL operation, and logs statements slower than a threshold.
+ * <p>
+ * Statement text is never used as a tag (unbounded cardinality); it only appears in the slow-query log,
+ * where prepared statements show {@code ?} placeholders rather than bound values. The decorator stays
+ * unwrappable, so pool metrics bound to the underlying Hikari pool keep working.
+ */
+public class QueryTimingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryTimingDataSource.class);
+
+    public static final String METRIC = "zelvo.db.query";
+
+    enum Operation { SELECT, INSERT, UPDATE, DELETE, BATCH, OTHER }
+
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+    private final long slowQueryNanos;
+
+    public QueryTimingDataSource(DataSource target, MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+        super(target);
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder(METRIC)
+                    .description("JDBC statement execution time")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+        }
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * Closes the decorated pool; the decorator replaces it as the bean, so shutdown must be passed on.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    static Operation classify(String sql) {
+        if (sql == null) {
+            return Operation.OTHER;
+        }
+        int start = 0;
+        int length = sql.length();
+        while (start < length && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        if (sql.regionMatches(true, start, "select", 0, 6) || sql.regionMatches(true, start, "with", 0, 4)) {
+            return Operation.SELECT;
+        }
+        if (sql.regionMatches(true, start, "insert", 0, 6)) {
+            return Operation.INSERT;
+        }
+        if (sql.regionMatches(true, start, "update", 0, 6)) {
+            return Operation.UPDATE;
+        }
+        if (sql.regionMatches(true, start, "delete", 0, 6)) {
+            return Operation.DELETE;
+        }
+        return Operation.OTHER;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryTimingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL up front; createStatement passes it to execute*
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] { method.getReturnType() }, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return QueryTimingDataSource.invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            Operation operation = name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")
+                    ? Operation.BATCH : classify(sql);
+            long start = System.nanoTime();
+            try {
+                return QueryTimingDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                timers.get(operation).record(elapsed, TimeUnit.NANOSECONDS);
+                if (elapsed >= slowQueryNanos) {
+                    logger.warn("Slow {} ({} ms): {}", operation.name().toLowerCase(Locale.ROOT),
+                            elapsed / 1_000_000, sql);
+                }
+            }
+        }
+    }
+}
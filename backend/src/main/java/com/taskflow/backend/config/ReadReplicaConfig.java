@@ -0,0 +1,83 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Optional read-replica support for Zelvo. When {@code app.datasource.replicas.enabled=true}, replaces the
+ * auto-configured pool with a {@link ReplicaRoutingDataSource}: read-only transactions go to the replicas
+ * listed in {@code app.datasource.replicas.urls}, everything else to {@code spring.datasource.url}.
+ * <p>
+ * Every pool, primary and replica, takes its settings from {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Tracks users who just wrote; picked up by the transaction manager as an execution listener.
+     * A zero window disables read-your-writes stickiness.
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replicas.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    public DataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            ReadYourWritesTracker tracker,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.replicas.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String replicaPassword) {
+        HikariDataSource primary = createPool(properties, environment, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), null);
+
+        String poolName = primary.getPoolName() != null ? primary.getPoolName() : "zelvo";
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = createPool(properties, environment, replicaUrls.get(i).trim(),
+                    replicaUsername, replicaPassword, poolName + "-replica-" + i);
+            // Only the primary is visible to Boot's pool metrics binder; register replicas directly
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, tracker);
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties properties, Environment environment,
+            String url, String username, String password, String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        if (poolName != null) {
+            pool.setPoolName(poolName);
+        }
+        return pool;
+    }
+}
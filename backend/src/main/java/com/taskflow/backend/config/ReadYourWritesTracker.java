@@ -0,0 +1,81 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Remembers which users committed a write in the last few seconds so that their subsequent reads can be
+ * served by the primary instead of a replica that may not have caught up yet (read-your-writes).
+ * <p>
+ * Registered as a {@link TransactionExecutionListener}: every successfully committed read-write
+ * transaction marks the authenticated user as sticky for the configured window. Other users' reads are
+ * unaffected. Expired entries are removed lazily on lookup and by {@link #sweep()}.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (windowNanos <= 0 || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        String user = currentUser();
+        if (user != null) {
+            stickyUntil.put(user, System.nanoTime() + windowNanos);
+        }
+    }
+
+    /**
+     * @return whether the current user wrote recently enough that reads must go to the primary
+     */
+    public boolean isCurrentUserSticky() {
+        if (stickyUntil.isEmpty()) {
+            return false;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            stickyUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops expired entries, bounding memory to the users who wrote within the last window.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskflow.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Routes read-only transactions to replicas and everything else to the primary.
+ * <p>
+ * Builds on {@link LazyConnectionDataSourceProxy}: the physical connection is only fetched at the first
+ * statement, after the transaction manager has marked it read-only, so {@code @Transactional(readOnly = true)}
+ * is all a service method needs. Replicas are used round-robin. Reads fall back to the primary when a
+ * replica cannot hand out a connection, and when {@link ReadYourWritesTracker} says the current user
+ * has just written.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        super(primary);
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(new ReadOnlyRouter(primary, this.replicas, tracker));
+    }
+
+    /**
+     * Closes the primary and replica pools.
+     */
+    @Override
+    public void close() throws Exception {
+        List<DataSource> all = new ArrayList<>(replicas);
+        all.add(primary);
+        for (DataSource dataSource : all) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class ReadOnlyRouter extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final List<DataSource> replicas;
+        private final ReadYourWritesTracker tracker;
+        private final AtomicInteger next = new AtomicInteger();
+
+        ReadOnlyRouter(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+            this.primary = primary;
+            this.replicas = replicas;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (replicas.isEmpty() || tracker.isCurrentUserSticky()) {
+                return primary.getConnection();
+            }
+            DataSource replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                ReplicaRoutingDataSource.logger.warn("Read replica unavailable, reading from primary: {}", e.getMessage());
+                return primary.getConnection();
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskflow.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (e.g. revocation-filter sync, token cleanup) for Zelvo.
+ * They share a pool of {@code spring.task.scheduling.pool.size} threads, so a long archive or purge run
+ * does not delay the frequent jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -6,11 +6,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskflow.backend.dto.ApiResponse;
 import com.taskflow.backend.model.Category;
 import com.taskflow.backend.service.CategoryService;
+import com.taskflow.backend.service.TaskService;
 
 /**
  * REST controller that exposes endpoints for retrieving task categories used across the Zelvo application.
@@ -21,19 +23,24 @@ import com.taskflow.backend.service.CategoryService;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final TaskService taskService;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, TaskService taskService) {
         this.categoryService = categoryService;
+        this.taskService = taskService;
     }
 
     /**
-     * Retrieves all available task categories.
+     * Retrieves the available task categories. Public for the global categories; listing a workspace's
+     * categories requires being signed in as one of its members.
      *
+     * @param workspaceId optional workspace; its categories are listed along with the global ones
      * @return {@link ApiResponse} containing a list of {@link Category} records
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Category>>> getAllCategories() {
-        List<Category> categories = categoryService.getAllCategories();
+    public ResponseEntity<ApiResponse<List<Category>>> getAllCategories(@RequestParam(required = false) Long workspaceId) {
+        Long callerId = workspaceId != null ? taskService.getCurrentUserId() : null;
+        List<Category> categories = categoryService.getCategories(callerId, workspaceId);
         return ResponseEntity.ok(ApiResponse.success(categories));
     }
 } 
\ No newline at end of file
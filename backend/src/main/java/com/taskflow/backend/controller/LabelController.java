@@ -0,0 +1,47 @@
+package com.taskflow.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.service.LabelService;
+import com.taskflow.backend.service.TaskService;
+
+/**
+ * REST controller exposing the current user's task labels within Zelvo.
+ */
+@RestController
+@RequestMapping("/api/v1/labels")
+@CrossOrigin
+public class LabelController {
+
+    private final LabelService labelService;
+    private final TaskService taskService;
+
+    public LabelController(LabelService labelService, TaskService taskService) {
+        this.labelService = labelService;
+        this.taskService = taskService;
+    }
+
+    /**
+     * Autocompletes label names. Served from an in-memory index of the user's labels, so it is cheap
+     * enough to call on every keystroke.
+     *
+     * @param prefix typed prefix, matched ignoring case; omit to list labels from the start
+     * @param limit  maximum number of names (defaults to 10, capped at {@link LabelService#MAX_SUGGESTIONS})
+     * @return matching label names in alphabetical order
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<String>>> suggestLabels(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> labels = labelService.suggest(taskService.getCurrentUserId(), prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success(labels));
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.TypeaheadDTO;
+import com.taskflow.backend.service.TypeaheadService;
+
+/**
+ * REST controller for search-as-you-type lookups across Zelvo tasks and users.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@CrossOrigin
+public class SearchController {
+
+    private final TypeaheadService typeaheadService;
+
+    public SearchController(TypeaheadService typeaheadService) {
+        this.typeaheadService = typeaheadService;
+    }
+
+    /**
+     * Prefix search over the current user's task titles and the names of active (assignable) users.
+     * Served from in-memory indexes, so it is cheap enough to call on every keystroke.
+     *
+     * @param q     typed text; every word must be the start of a word in the title or name
+     * @param limit maximum results per list (defaults to 5, capped at {@link TypeaheadService#MAX_RESULTS})
+     * @return matching tasks (open and recently updated first) and users (alphabetical)
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<ApiResponse<TypeaheadDTO>> typeahead(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(typeaheadService.search(q, limit)));
+    }
+}
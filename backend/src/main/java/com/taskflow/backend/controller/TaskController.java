@@ -3,6 +3,7 @@ package com.taskflow.backend.controller;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,13 +15,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.taskflow.backend.dto.ApiResponse;
 import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.TaskChangesDTO;
 import com.taskflow.backend.dto.TaskRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.service.TaskEventHub;
+import com.taskflow.backend.service.TaskExportService;
 import com.taskflow.backend.service.TaskService;
+import com.taskflow.backend.service.TaskSort;
 
 /**
  * REST controller providing CRUD operations for task resources within Zelvo.
@@ -32,37 +39,93 @@ import com.taskflow.backend.service.TaskService;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskEventHub taskEventHub;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService, TaskEventHub taskEventHub) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskEventHub = taskEventHub;
     }
 
     /**
      * Retrieves a paginated list of tasks belonging to the current user.
      *
      * @param page       zero-based page index (defaults to 0)
-     * @param size       page size (defaults to 10)
-     * @param sort       field to sort by (optional)
+     * @param size       page size (defaults to 10, capped at {@link TaskService#MAX_PAGE_SIZE}; use {@code /export} for everything)
+     * @param sort       sort key (optional): createdAt, updatedAt, dueDate, priority or status; see {@link TaskSort}
      * @param direction  sort direction: asc or desc (defaults to asc)
      * @param search     optional free-text search query
      * @param filter     optional filter expression (status, etc.)
-     * @return paginated {@link TaskResponseDTO} list wrapped in {@link ApiResponse}
+     * @param fields     optional comma-separated list of task fields to return (applied by {@code FieldSelectionAdvice})
+     * @param includeArchived whether to include archived (long-completed) tasks; off by default
+     * @param label      optional label name (case-insensitive); only tasks with this label are returned
+     * @return task list wrapped in {@link ApiResponse}, with paging information in its metadata
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<TaskResponseDTO>>> getAllTasks(
+    public ResponseEntity<ApiResponse<List<TaskResponseDTO>>> getAllTasks(
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "asc") String direction,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) String filter) {
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String label) {
         
         PageRequest pageRequest = new PageRequest(page, size, sort, direction);
         pageRequest.setSearch(search);
         pageRequest.setFilter(filter);
+        pageRequest.setIncludeArchived(includeArchived);
+        pageRequest.setLabel(label);
         
         Page<TaskResponseDTO> tasks = taskService.getUserTasks(pageRequest);
-        return ResponseEntity.ok(ApiResponse.success(tasks));
+        String order = TaskSort.requested(sort).describe(TaskSort.ascendingRequested(sort, direction));
+        return ResponseEntity.ok(ApiResponse.page(tasks, order, filter));
+    }
+
+    /**
+     * Streams every task of the current user as JSON. Rows are written straight from a database cursor,
+     * so the response starts immediately and memory use does not grow with the number of tasks.
+     *
+     * @param fields optional comma-separated list of task fields to return
+     * @return streaming body with {@code {"status":"success","data":[...]}}
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(required = false) String fields) {
+        StreamingResponseBody body = taskExportService.exportCurrentUserTasks(fields);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Returns tasks created, updated, deleted or archived since a watermark, for clients that keep a
+     * local copy of their tasks. Call without {@code since} for the first sync, then pass the returned
+     * {@code watermark}; repeat immediately while {@code hasMore} is true.
+     *
+     * @param since  opaque watermark from a previous response (optional)
+     * @param fields optional comma-separated list of task fields to return for changed tasks
+     * @return changes and the next watermark
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<TaskChangesDTO>> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(ApiResponse.success(taskService.getTaskChanges(since)));
+    }
+
+    /**
+     * Streams task events as Server-Sent Events: {@code task.created}, {@code task.updated} and
+     * {@code task.deleted} for tasks the current user owns or is assigned to. After a reconnect, catch
+     * up with {@code /changes}; events are not replayed.
+     *
+     * @return event stream
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents() {
+        return taskEventHub.subscribe(taskService.getCurrentUserId());
     }
 
     /**
@@ -113,6 +176,18 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(null, "Task deleted successfully"));
     }
 
+    /**
+     * Restores a deleted task that has not been purged yet.
+     *
+     * @param id identifier of the deleted task
+     * @return the restored task as {@link TaskResponseDTO}
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ApiResponse<TaskResponseDTO>> restoreTask(@PathVariable Long id) {
+        TaskResponseDTO restoredTask = taskService.restoreTask(id);
+        return ResponseEntity.ok(ApiResponse.success(restoredTask, "Task restored successfully"));
+    }
+
     /**
      * Creates multiple tasks in a single call.
      *
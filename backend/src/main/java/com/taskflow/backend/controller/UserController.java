@@ -2,7 +2,6 @@ package com.taskflow.backend.controller;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,8 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.taskflow.backend.dto.ActivityPageDTO;
 import com.taskflow.backend.dto.ApiResponse;
-import com.taskflow.backend.dto.PageRequest;
 import com.taskflow.backend.dto.UserSummaryDTO;
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.service.UserService;
@@ -81,14 +80,17 @@ public class UserController {
     }
 
     /**
-     * Returns a paginated view of the user’s activity history.
+     * Returns the user’s activity history newest first, one keyset page at a time.
+     *
+     * @param before {@code nextCursor} of the previous page; omit for the first page
+     * @param size   page size (max {@value UserService#MAX_ACTIVITY_PAGE_SIZE})
+     * @return entries and the cursor of the next page
      */
     @GetMapping("/activity")
-    public ResponseEntity<ApiResponse<Page<?>>> getUserActivity(
-            @RequestParam(defaultValue = "0") Integer page,
+    public ResponseEntity<ApiResponse<ActivityPageDTO>> getUserActivity(
+            @RequestParam(required = false) String before,
             @RequestParam(defaultValue = "10") Integer size) {
-        PageRequest pageRequest = new PageRequest(page, size);
-        Page<?> activity = userService.getUserActivity(pageRequest);
+        ActivityPageDTO activity = userService.getUserActivity(before, size);
         return ResponseEntity.ok(ApiResponse.success(activity));
     }
 
@@ -0,0 +1,129 @@
+package com.taskflow.backend.controller;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.dto.WorkspaceMemberRequest;
+import com.taskflow.backend.dto.WorkspaceRequest;
+import com.taskflow.backend.model.Category;
+import com.taskflow.backend.model.Workspace;
+import com.taskflow.backend.service.CategoryService;
+import com.taskflow.backend.service.TaskService;
+import com.taskflow.backend.service.TaskSort;
+import com.taskflow.backend.service.WorkspaceService;
+
+/**
+ * REST controller for Zelvo workspaces: shared boards whose tasks are visible to every member.
+ */
+@RestController
+@RequestMapping("/api/v1/workspaces")
+@CrossOrigin
+public class WorkspaceController {
+
+    private final WorkspaceService workspaceService;
+    private final TaskService taskService;
+    private final CategoryService categoryService;
+
+    public WorkspaceController(WorkspaceService workspaceService, TaskService taskService, CategoryService categoryService) {
+        this.workspaceService = workspaceService;
+        this.taskService = taskService;
+        this.categoryService = categoryService;
+    }
+
+    /**
+     * Lists the workspaces the current user belongs to.
+     *
+     * @return workspaces by name
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Workspace>>> getWorkspaces() {
+        return ResponseEntity.ok(ApiResponse.success(workspaceService.getWorkspaces(taskService.getCurrentUserId())));
+    }
+
+    /**
+     * Creates a workspace owned by the current user.
+     *
+     * @param request workspace name
+     * @return the created workspace
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<Workspace>> createWorkspace(@RequestBody WorkspaceRequest request) {
+        Workspace workspace = workspaceService.createWorkspace(taskService.getCurrentUserId(), request.name());
+        return ResponseEntity.ok(ApiResponse.success(workspace, "Workspace created successfully"));
+    }
+
+    /**
+     * Adds a user to a workspace. Owners only.
+     *
+     * @param id      workspace id
+     * @param request email of the user to add
+     */
+    @PostMapping("/{id}/members")
+    public ResponseEntity<ApiResponse<?>> addMember(@PathVariable Long id, @RequestBody WorkspaceMemberRequest request) {
+        workspaceService.addMember(taskService.getCurrentUserId(), id, request.email());
+        return ResponseEntity.ok(ApiResponse.success(null, "Member added successfully"));
+    }
+
+    /**
+     * Removes a user from a workspace. Owners may remove anyone, members only themselves.
+     *
+     * @param id     workspace id
+     * @param userId user to remove
+     */
+    @DeleteMapping("/{id}/members/{userId}")
+    public ResponseEntity<ApiResponse<?>> removeMember(@PathVariable Long id, @PathVariable Long userId) {
+        workspaceService.removeMember(taskService.getCurrentUserId(), id, userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Member removed successfully"));
+    }
+
+    /**
+     * Creates a category that only this workspace's tasks can use. Members only.
+     *
+     * @param id       workspace id
+     * @param category name and color
+     * @return the created category
+     */
+    @PostMapping("/{id}/categories")
+    public ResponseEntity<ApiResponse<Category>> createCategory(@PathVariable Long id, @RequestBody Category category) {
+        Category created = categoryService.createCategory(taskService.getCurrentUserId(), id, category);
+        return ResponseEntity.ok(ApiResponse.success(created, "Category created successfully"));
+    }
+
+    /**
+     * Lists a workspace's tasks, whoever owns them, in one query. Members only.
+     *
+     * @param id        workspace id
+     * @param page      zero-based page index (defaults to 0)
+     * @param size      page size (defaults to 10, capped at {@link TaskService#MAX_PAGE_SIZE})
+     * @param sort      sort key (optional); see {@link TaskSort}
+     * @param direction sort direction: asc or desc (defaults to asc)
+     * @param fields    optional comma-separated list of task fields to return (applied by {@code FieldSelectionAdvice})
+     * @return task list wrapped in {@link ApiResponse}, with paging information in its metadata
+     */
+    @GetMapping("/{id}/tasks")
+    public ResponseEntity<ApiResponse<List<TaskResponseDTO>>> getWorkspaceTasks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String fields) {
+        Page<TaskResponseDTO> tasks = taskService.getWorkspaceTasks(id, new PageRequest(page, size, sort, direction));
+        String order = TaskSort.requested(sort).describe(TaskSort.ascendingRequested(sort, direction));
+        return ResponseEntity.ok(ApiResponse.page(tasks, order, null));
+    }
+}
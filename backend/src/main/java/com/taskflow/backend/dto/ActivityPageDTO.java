@@ -0,0 +1,11 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of a user's activity log, newest first.
+ *
+ * @param items      entries on this page
+ * @param nextCursor token to pass as {@code before} for the next (older) page, or {@code null} at the end
+ */
+public record ActivityPageDTO(List<UserActivityDTO> items, String nextCursor) {}
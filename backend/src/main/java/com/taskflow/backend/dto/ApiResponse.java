@@ -1,10 +1,17 @@
 package com.taskflow.backend.dto;
 
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
     private String status;
     private T data;
@@ -13,6 +20,7 @@ public class ApiResponse<T> {
 
     @Data
     @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Metadata {
         private Integer page;
         private Integer size;
@@ -36,7 +44,26 @@ public class ApiResponse<T> {
         return new ApiResponse<>("success", data, message, null);
     }
 
+    /**
+     * Wraps a page as a plain content list, moving paging information into {@link Metadata}
+     * instead of serializing Spring's full {@link Page}/{@code Pageable} structure.
+     *
+     * @param page   page of results
+     * @param sort   order in the public form the client can send back, e.g. {@code dueDate,asc};
+     *               not the entity properties of the page's {@link org.springframework.data.domain.Sort}
+     * @param filter filter expression, echoed back
+     */
+    public static <T> ApiResponse<List<T>> page(Page<T> page, String sort, String filter) {
+        Metadata metadata = new Metadata();
+        metadata.setPage(page.getNumber());
+        metadata.setSize(page.getSize());
+        metadata.setTotal(page.getTotalElements());
+        metadata.setSort(sort);
+        metadata.setFilter(filter);
+        return new ApiResponse<>("success", page.getContent(), null, metadata);
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>("error", null, message, null);
     }
-} 
\ No newline at end of file
+} 
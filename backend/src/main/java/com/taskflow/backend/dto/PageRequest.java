@@ -12,6 +12,8 @@ public class PageRequest {
     private String direction = "asc";
     private String search;
     private String filter;
+    private boolean includeArchived;
+    private String label;
 
     public PageRequest(Integer page, Integer size) {
         this.page = page;
@@ -72,4 +74,20 @@ public class PageRequest {
     public void setFilter(String filter) {
         this.filter = filter;
     }
-} 
\ No newline at end of file
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of a user's task changes for delta sync.
+ *
+ * @param changed        created or updated tasks, oldest change first
+ * @param deleted        ids of tasks deleted since the watermark
+ * @param archived       ids of tasks moved to the archive since the watermark
+ * @param watermark      token to pass as {@code since} on the next call
+ * @param hasMore        whether more changes are waiting; call again right away with {@code watermark}
+ * @param resyncRequired the watermark is too old to compute deletions; discard local state and sync from scratch
+ */
+public record TaskChangesDTO(
+        List<TaskResponseDTO> changed,
+        List<Long> deleted,
+        List<Long> archived,
+        String watermark,
+        boolean hasMore,
+        boolean resyncRequired) {}
@@ -0,0 +1,10 @@
+package com.taskflow.backend.dto;
+
+/**
+ * Payload of a task event pushed over {@code GET /api/v1/tasks/events}.
+ *
+ * @param type   {@code task.created}, {@code task.updated}, {@code task.deleted} or {@code task.due} (reminder)
+ * @param taskId affected task
+ * @param task   task state after the change; {@code null} for deletions and reminders
+ */
+public record TaskEventDTO(String type, Long taskId, TaskResponseDTO task) {}
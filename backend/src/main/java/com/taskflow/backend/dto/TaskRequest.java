@@ -21,4 +21,5 @@ public class TaskRequest {
     private List<String> labels;
     private List<Long> dependencies;
     private Long assigneeId;
+    private Long workspaceId;
 }
@@ -2,7 +2,15 @@ package com.taskflow.backend.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Null fields are omitted; clients may request a subset of fields via ?fields=id,title,...
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(TaskResponseDTO.FIELD_FILTER)
 public class TaskResponseDTO {
+    public static final String FIELD_FILTER = "taskFields";
+
     private Long id;
     private String title;
     private String description;
@@ -18,10 +26,13 @@ public class TaskResponseDTO {
     private String createdAt;
     private String updatedAt;
     private Long userId;
+    private Long workspaceId;
     private boolean completed;
     private Long categoryId;
     private String categoryName;
     private String categoryColor;
+    // Only set (true) for tasks served from the archive
+    private Boolean archived;
 
     // Getters and setters
     public Long getId() { return id; }
@@ -54,6 +65,8 @@ public class TaskResponseDTO {
     public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
     public Long getUserId() { return userId; }
     public void setUserId(Long userId) { this.userId = userId; }
+    public Long getWorkspaceId() { return workspaceId; }
+    public void setWorkspaceId(Long workspaceId) { this.workspaceId = workspaceId; }
     public boolean isCompleted() { return completed; }
     public void setCompleted(boolean completed) { this.completed = completed; }
     public Long getCategoryId() { return categoryId; }
@@ -62,4 +75,6 @@ public class TaskResponseDTO {
     public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
     public String getCategoryColor() { return categoryColor; }
     public void setCategoryColor(String categoryColor) { this.categoryColor = categoryColor; }
+    public Boolean getArchived() { return archived; }
+    public void setArchived(Boolean archived) { this.archived = archived; }
 } 
\ No newline at end of file
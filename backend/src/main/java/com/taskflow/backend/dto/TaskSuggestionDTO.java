@@ -0,0 +1,10 @@
+package com.taskflow.backend.dto;
+
+/**
+ * Task match of a type-ahead search.
+ *
+ * @param id        task id
+ * @param title     task title
+ * @param completed whether the task is completed; open tasks are ranked first
+ */
+public record TaskSuggestionDTO(Long id, String title, boolean completed) {}
@@ -0,0 +1,11 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+/**
+ * Result of {@code GET /api/v1/search/typeahead}.
+ *
+ * @param tasks the current user's tasks with a title word starting with every query word, best first
+ * @param users active users with a name word starting with every query word, alphabetically
+ */
+public record TypeaheadDTO(List<TaskSuggestionDTO> tasks, List<UserSummaryDTO> users) {}
@@ -0,0 +1,14 @@
+package com.taskflow.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a user's activity log.
+ *
+ * @param id         entry id
+ * @param type       what happened, e.g. {@code TASK_CREATED} or {@code LOGIN}
+ * @param taskId     affected task, if any
+ * @param details    short context such as the task title
+ * @param occurredAt when it happened
+ */
+public record UserActivityDTO(Long id, String type, Long taskId, String details, LocalDateTime occurredAt) {}
@@ -0,0 +1,8 @@
+package com.taskflow.backend.dto;
+
+/**
+ * Payload for adding a user to a workspace.
+ *
+ * @param email email of the user to add
+ */
+public record WorkspaceMemberRequest(String email) {}
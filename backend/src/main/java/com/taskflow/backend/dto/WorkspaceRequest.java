@@ -0,0 +1,8 @@
+package com.taskflow.backend.dto;
+
+/**
+ * Payload for creating a workspace.
+ *
+ * @param name workspace name
+ */
+public record WorkspaceRequest(String name) {}
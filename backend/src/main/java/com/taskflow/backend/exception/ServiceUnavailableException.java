@@ -0,0 +1,10 @@
+package com.taskflow.backend.exception;
+
+/**
+ * Signals that a Zelvo subsystem is temporarily saturated and the client should retry later.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,17 @@
 package com.taskflow.backend.mapper;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import com.taskflow.backend.dto.TaskRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.model.ArchivedTask;
+import com.taskflow.backend.model.Label;
 import com.taskflow.backend.model.Task;
 import com.taskflow.backend.model.User;
 
@@ -15,8 +21,13 @@ import com.taskflow.backend.model.User;
  */
 @Component
 public class TaskMapper {
+
+    // Second precision is all the UI needs; LocalDateTime.toString() emits up to nanoseconds
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
     /**
-     * Converts a {@link TaskRequest} into a {@link Task} entity.
+     * Converts a {@link TaskRequest} into a {@link Task} entity. Labels are left unset; they are resolved
+     * against the owner's label dictionary by the service.
      *
      * @param request   client payload
      * @param assigneeOpt optional assignee user
@@ -31,7 +42,6 @@ public class TaskMapper {
         task.setPriority(request.getPriority() != null ? Task.Priority.valueOf(request.getPriority().toUpperCase()) : null);
         task.setType(request.getType());
         task.setStoryPoints(request.getStoryPoints());
-        task.setLabels(request.getLabels());
         task.setDependencies(request.getDependencies());
         assigneeOpt.ifPresent(task::setAssignee);
         return task;
@@ -50,14 +60,18 @@ public class TaskMapper {
         response.setPriority(task.getPriority() != null ? task.getPriority().toString() : null);
         response.setType(task.getType());
         response.setStoryPoints(task.getStoryPoints());
-        response.setLabels(task.getLabels());
-        response.setDependencies(task.getDependencies());
+        // Copy rather than share the entity's lazy collections: the DTO is serialized after the session closes
+        response.setLabels(task.getLabels() != null
+                ? task.getLabels().stream().map(Label::getName).sorted().collect(Collectors.toCollection(ArrayList::new))
+                : null);
+        response.setDependencies(task.getDependencies() != null ? new ArrayList<>(task.getDependencies()) : null);
         response.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
         response.setAssigneeName(task.getAssignee() != null ? task.getAssignee().getName() : null);
-        response.setDueDate(task.getDueDate() != null ? task.getDueDate().toString() : null);
-        response.setCreatedAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null);
-        response.setUpdatedAt(task.getUpdatedAt() != null ? task.getUpdatedAt().toString() : null);
+        response.setDueDate(formatTimestamp(task.getDueDate()));
+        response.setCreatedAt(formatTimestamp(task.getCreatedAt()));
+        response.setUpdatedAt(formatTimestamp(task.getUpdatedAt()));
         response.setUserId(task.getUser() != null ? task.getUser().getId() : null);
+        response.setWorkspaceId(task.getWorkspaceId());
         response.setCompleted(task.isCompleted());
         // Category information
         if (task.getCategory() != null) {
@@ -67,4 +81,42 @@ public class TaskMapper {
         }
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts an {@link ArchivedTask} into a {@link TaskResponseDTO} flagged as archived.
+     */
+    public TaskResponseDTO toResponse(ArchivedTask task) {
+        TaskResponseDTO response = new TaskResponseDTO();
+        response.setId(task.getId());
+        response.setTitle(task.getTitle());
+        response.setDescription(task.getDescription());
+        response.setStatus(task.getStatus());
+        response.setPriority(task.getPriority() != null ? task.getPriority().toString() : null);
+        response.setType(task.getType());
+        response.setStoryPoints(task.getStoryPoints());
+        response.setLabels(task.getLabels() != null ? new ArrayList<>(task.getLabels()) : null);
+        response.setDependencies(task.getDependencies() != null ? new ArrayList<>(task.getDependencies()) : null);
+        response.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        response.setAssigneeName(task.getAssignee() != null ? task.getAssignee().getName() : null);
+        response.setDueDate(formatTimestamp(task.getDueDate()));
+        response.setCreatedAt(formatTimestamp(task.getCreatedAt()));
+        response.setUpdatedAt(formatTimestamp(task.getUpdatedAt()));
+        response.setUserId(task.getUserId());
+        response.setWorkspaceId(task.getWorkspaceId());
+        response.setCompleted(true);
+        response.setArchived(Boolean.TRUE);
+        if (task.getCategory() != null) {
+            response.setCategoryId(task.getCategory().getId());
+            response.setCategoryName(task.getCategory().getName());
+            response.setCategoryColor(task.getCategory().getColor());
+        }
+        return response;
+    }
+
+    /**
+     * Formats an entity timestamp for API responses with second precision.
+     */
+    public static String formatTimestamp(LocalDateTime value) {
+        return value != null ? TIMESTAMP_FORMAT.format(value) : null;
+    }
+}
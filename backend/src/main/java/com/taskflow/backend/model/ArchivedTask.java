@@ -0,0 +1,77 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * A completed task moved out of the active {@code tasks} table by the archiver. Rows are written only
+ * by {@link com.taskflow.backend.repository.ArchivedTaskRepository#archiveCompletedBefore} and never
+ * change afterwards; labels and dependencies are stored inline as arrays.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_user_created_at", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tasks_archive_user_archived_at", columnList = "user_id, archived_at")
+})
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private Long workspaceId;
+
+    private String title;
+    private String description;
+    private LocalDateTime dueDate;
+
+    @Enumerated(EnumType.STRING)
+    private Task.Priority priority;
+
+    private String status;
+    private String type;
+    private Integer storyPoints;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<String> labels;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<Long> dependencies;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -16,7 +16,8 @@ import lombok.Data;
 
 /**
  * Entity representing a grouping for tasks in Zelvo. A category can be assigned to many tasks
- * and holds metadata such as name and display color.
+ * and holds metadata such as name and display color. Categories without a workspace are global;
+ * the others are only visible to that workspace's members and its tasks.
  */
 @Entity
 @Data
@@ -27,11 +28,14 @@ public class Category {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    // Unique within the workspace (uk_categories_workspace_name)
+    @Column(nullable = false)
     private String name;
 
     private String color;
 
+    private Long workspaceId;
+
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @JsonIgnore
@@ -62,6 +66,14 @@ public class Category {
         this.color = color;
     }
 
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public void setWorkspaceId(Long workspaceId) {
+        this.workspaceId = workspaceId;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
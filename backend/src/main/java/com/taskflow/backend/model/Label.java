@@ -0,0 +1,47 @@
+package com.taskflow.backend.model;
+
+import org.hibernate.annotations.Immutable;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Entry of a Zelvo user's label dictionary. Tasks link to labels by id; names are unique per user
+ * ignoring case. Serialized as its plain name, so task JSON keeps labels as a list of strings.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "labels")
+public class Label {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @JsonValue
+    @Column(nullable = false)
+    private String name;
+
+    /**
+     * Unresolved label from a request body; {@link com.taskflow.backend.service.LabelService} swaps it for
+     * the dictionary entry before the task is saved.
+     */
+    @JsonCreator
+    public static Label named(String name) {
+        Label label = new Label();
+        label.setName(name);
+        return label;
+    }
+}
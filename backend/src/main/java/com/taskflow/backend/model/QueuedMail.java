@@ -0,0 +1,60 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * An outgoing e-mail in the durable mail queue. Written by
+ * {@link com.taskflow.backend.service.MailService} in the caller's transaction and sent, retried and
+ * finally removed by {@link com.taskflow.backend.service.MailDispatcher}.
+ */
+@Entity
+@Data
+@Table(name = "mail_queue")
+public class QueuedMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String body;
+
+    /** Delivery attempts started so far, including one that may be in progress. */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    /** Set once the mail has exhausted its retries; it is then left for inspection. */
+    private LocalDateTime failedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -2,9 +2,15 @@ package com.taskflow.backend.model;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.annotations.SQLRestriction;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -13,7 +19,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -23,10 +32,27 @@ import lombok.Data;
 /**
  * Core entity representing a unit of work within Zelvo. Stores metadata such as priority, status,
  * due dates, and relationships to users and category.
+ * <p>
+ * Deleted tasks are tombstoned ({@code deletedAt} set) and hidden from every entity query until
+ * {@link com.taskflow.backend.service.TaskPurgeService} removes them.
  */
 @Entity
 @Data
-@Table(name = "tasks")
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tasks_user_due_date", columnList = "user_id, due_date, id"),
+        @Index(name = "idx_tasks_user_updated_at", columnList = "user_id, updated_at, id"),
+        @Index(name = "idx_tasks_user_priority_rank", columnList = "user_id, priority_rank, id"),
+        @Index(name = "idx_tasks_user_status", columnList = "user_id, status, id"),
+        @Index(name = "idx_tasks_workspace_created_at", columnList = "workspace_id, created_at, id"),
+        @Index(name = "idx_tasks_workspace_updated_at", columnList = "workspace_id, updated_at, id"),
+        @Index(name = "idx_tasks_workspace_due_date", columnList = "workspace_id, due_date, id"),
+        @Index(name = "idx_tasks_workspace_priority_rank", columnList = "workspace_id, priority_rank, id"),
+        @Index(name = "idx_tasks_workspace_status", columnList = "workspace_id, status, id"),
+        @Index(name = "idx_tasks_assignee_id", columnList = "assignee_id"),
+        @Index(name = "idx_tasks_category_id", columnList = "category_id")
+})
 public class Task {
 
     @Id
@@ -41,6 +67,10 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private Priority priority = Priority.MEDIUM;
 
+    // LOW = 1 < MEDIUM = 2 < HIGH = 3, generated by the database from priority; sort key only (TaskSort)
+    @Column(insertable = false, updatable = false)
+    private Short priorityRank;
+
     private boolean completed = false;
 
     @Column
@@ -52,19 +82,53 @@ public class Task {
     @Column
     private Integer storyPoints;
 
-    @ElementCollection
-    private List<String> labels;
+    // Batch-load collections for all tasks of a page/stream chunk instead of one query per task.
+    // Collection rows are keyed by (task_id, user_id): user_id is the partition key of their tables
+    // (V4, V12), so inserts and deletes write it directly and prune to the owner's partition
+    @ManyToMany
+    @BatchSize(size = 50)
+    @JoinTable(name = "task_label_links",
+            joinColumns = {
+                    @JoinColumn(name = "task_id", referencedColumnName = "id"),
+                    @JoinColumn(name = "user_id", referencedColumnName = "user_id")
+            },
+            inverseJoinColumns = @JoinColumn(name = "label_id"))
+    private Set<Label> labels;
 
     @ElementCollection
+    @BatchSize(size = 50)
+    @CollectionTable(name = "task_dependencies", joinColumns = {
+            @JoinColumn(name = "task_id", referencedColumnName = "id"),
+            @JoinColumn(name = "user_id", referencedColumnName = "user_id")
+    })
     private List<Long> dependencies;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // When the task was last marked completed; drives archival (TaskArchiveService)
+    private LocalDateTime completedAt;
+
+    // Tombstone; set by TaskService deletes, cleared by restore
+    private LocalDateTime deletedAt;
+
+    // When the due-date reminder went out (ReminderService); cleared when the due date changes
+    private LocalDateTime remindedAt;
+
+    // Partition key: Hibernate adds it to the WHERE clause of every UPDATE and DELETE so that
+    // partitioned tables prune. The column is written through this field; setUser keeps both in sync.
+    @PartitionKey
+    @Column(name = "user_id")
+    private Long userId;
+
     @ManyToOne
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
     private User user;
 
+    // Shared workspace the task belongs to (WorkspaceService); null for a personal task
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+
     @ManyToOne
     @JoinColumn(name = "category_id")
     private Category category;
@@ -77,11 +141,21 @@ public class Task {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        trackCompletion();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        trackCompletion();
+    }
+
+    private void trackCompletion() {
+        if (!completed) {
+            completedAt = null;
+        } else if (completedAt == null) {
+            completedAt = updatedAt;
+        }
     }
 
     public Long getId() {
@@ -154,6 +228,11 @@ public class Task {
 
     public void setUser(User user) {
         this.user = user;
+        this.userId = user != null ? user.getId() : null;
+    }
+
+    public Long getUserId() {
+        return userId;
     }
 
     public Category getCategory() {
@@ -0,0 +1,43 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * A task domain event waiting in the transactional outbox. Rows are appended by
+ * {@link com.taskflow.backend.repository.TaskOutboxRepository#appendForTasks} in the transaction that
+ * changed the task and removed by {@link com.taskflow.backend.service.TaskOutboxRelay} once delivered.
+ * Events are compact on purpose: consumers that need the task's state read it themselves.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "task_outbox")
+public class TaskOutboxEvent {
+
+    /** Unique, increasing event id; consumers use it to discard redeliveries. */
+    @Id
+    private Long id;
+
+    /** One of the {@link com.taskflow.backend.service.TaskEventHub} event type constants. */
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private Long assigneeId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
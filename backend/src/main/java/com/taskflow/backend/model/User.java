@@ -64,6 +64,9 @@ public class User {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    @Column(name = "email_verified_at") // Null until the user follows a verification link
+    private LocalDateTime emailVerifiedAt;
+
     @Column(name = "auth_provider") // e.g., "github", "google", or null for local password auth
     private String authProvider;
 
@@ -0,0 +1,47 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * One entry of a user's activity log. Rows are appended in batches by
+ * {@link com.taskflow.backend.service.ActivityRecorder} and never change afterwards; the table is
+ * partitioned by month on {@code occurred_at}.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "user_activity")
+public class UserActivity {
+
+    public enum Type {
+        LOGIN, LOGOUT, REGISTERED, TOKEN_REFRESHED,
+        TASK_CREATED, TASK_UPDATED, TASK_DELETED, TASK_RESTORED
+    }
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    private Long taskId;
+
+    private String details;
+}
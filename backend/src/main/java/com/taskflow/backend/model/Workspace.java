@@ -0,0 +1,34 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * A Zelvo workspace: a team that shares tasks and categories. Membership lives in
+ * {@code workspace_members} and is managed through
+ * {@link com.taskflow.backend.service.WorkspaceService}.
+ */
+@Entity
+@Data
+@Table(name = "workspaces")
+public class Workspace {
+
+    /** Member roles; owners manage the member list. */
+    public enum Role {
+        OWNER, MEMBER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
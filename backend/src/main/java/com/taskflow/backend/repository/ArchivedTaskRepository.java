@@ -0,0 +1,91 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.model.ArchivedTask;
+
+/**
+ * Repository for {@link ArchivedTask} rows: the archiver's batch move and per-user reads for listings
+ * that ask for archived tasks.
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Moves one batch of tasks completed before {@code cutoff} into the archive, in its own transaction.
+     * Rows are copied with their labels and dependencies folded into arrays and then deleted from
+     * {@code tasks}, which cascades to the collection tables. Rows locked by in-flight requests are
+     * skipped and picked up by a later batch.
+     *
+     * @param cutoff    completion cutoff
+     * @param now       archive timestamp; taken from the application clock, like {@code updated_at}
+     * @param batchSize maximum number of tasks to move
+     * @return number of tasks moved
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            WITH batch AS (
+                SELECT user_id, id FROM tasks
+                WHERE completed AND completed_at < :cutoff AND deleted_at IS NULL
+                ORDER BY completed_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), archived AS (
+                INSERT INTO tasks_archive (id, user_id, title, description, due_date, priority, status, type,
+                                           story_points, labels, dependencies, category_id, assignee_id,
+                                           workspace_id, created_at, updated_at, completed_at, archived_at)
+                SELECT t.id, t.user_id, t.title, t.description, t.due_date, t.priority, t.status, t.type,
+                       t.story_points,
+                       ARRAY(SELECT lb.name FROM task_label_links l JOIN labels lb ON lb.id = l.label_id
+                             WHERE l.user_id = t.user_id AND l.task_id = t.id ORDER BY lb.name),
+                       ARRAY(SELECT d.dependencies FROM task_dependencies d WHERE d.user_id = t.user_id AND d.task_id = t.id),
+                       t.category_id, t.assignee_id, t.workspace_id, t.created_at, t.updated_at, t.completed_at, :now
+                FROM tasks t JOIN batch b ON t.user_id = b.user_id AND t.id = b.id
+                RETURNING user_id, id
+            )
+            DELETE FROM tasks t USING archived a WHERE t.user_id = a.user_id AND t.id = a.id
+            """)
+    int archiveCompletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now,
+            @Param("batchSize") int batchSize);
+
+    /**
+     * Loads the given archived tasks of one owner with category and assignee.
+     *
+     * @param userId owner id
+     * @param ids    archived task ids
+     * @return owned archived tasks among {@code ids}
+     */
+    @EntityGraph(attributePaths = {"category", "assignee"})
+    List<ArchivedTask> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    /**
+     * Returns the ids of a user's tasks archived within {@code (after, until]}.
+     *
+     * @param userId owner id
+     * @param after  exclusive lower bound
+     * @param until  inclusive upper bound
+     * @return archived task ids
+     */
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.userId = :userId AND a.archivedAt > :after AND a.archivedAt <= :until")
+    List<Long> findIdsArchivedBetween(@Param("userId") Long userId, @Param("after") LocalDateTime after,
+            @Param("until") LocalDateTime until);
+
+    /**
+     * Counts the archived tasks of a user.
+     *
+     * @param userId owner id
+     * @return number of archived tasks
+     */
+    long countByUserId(Long userId);
+}
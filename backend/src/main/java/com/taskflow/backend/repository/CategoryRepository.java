@@ -1,5 +1,7 @@
 package com.taskflow.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,4 +20,28 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return true if category name is taken
      */
     boolean existsByName(String name);
+
+    /**
+     * Checks if a workspace already has a category with the supplied name.
+     *
+     * @param workspaceId workspace id
+     * @param name        category name
+     * @return true if the name is taken in the workspace
+     */
+    boolean existsByWorkspaceIdAndName(Long workspaceId, String name);
+
+    /**
+     * Returns the global categories, shared by every user.
+     *
+     * @return categories without a workspace
+     */
+    List<Category> findByWorkspaceIdIsNullOrderByName();
+
+    /**
+     * Returns the global categories plus those of one workspace.
+     *
+     * @param workspaceId workspace id
+     * @return categories usable by the workspace's tasks
+     */
+    List<Category> findByWorkspaceIdIsNullOrWorkspaceIdOrderByName(Long workspaceId);
 }
\ No newline at end of file
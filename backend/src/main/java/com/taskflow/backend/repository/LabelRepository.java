@@ -0,0 +1,53 @@
+package com.taskflow.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.Label;
+
+/**
+ * Spring Data repository for the per-user label dictionary in Zelvo. Label keys are lower-cased names,
+ * matching the {@code uk_labels_user_name} index.
+ */
+@Repository
+public interface LabelRepository extends JpaRepository<Label, Integer> {
+
+    /**
+     * Returns every label of a user.
+     *
+     * @param userId owner id
+     * @return the user's labels
+     */
+    List<Label> findByUserId(Long userId);
+
+    /**
+     * Finds labels of a user by key.
+     *
+     * @param userId owner id
+     * @param keys   lower-cased label names
+     * @return matching labels
+     */
+    @Query("SELECT l FROM Label l WHERE l.userId = :userId AND lower(l.name) IN :keys")
+    List<Label> findByUserIdAndKeyIn(@Param("userId") Long userId, @Param("keys") Collection<String> keys);
+
+    /**
+     * Adds a label unless the user already has one with the same name in any case. Concurrent inserts
+     * of the same name wait for each other instead of failing.
+     *
+     * @param userId owner id
+     * @param name   label name
+     * @return 1 if the label was added, 0 if it existed
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO labels (user_id, name, created_at) VALUES (:userId, :name, now())
+            ON CONFLICT (user_id, lower(name)) DO NOTHING
+            """)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("name") String name);
+}
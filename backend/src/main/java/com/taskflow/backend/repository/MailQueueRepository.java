@@ -0,0 +1,74 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.model.QueuedMail;
+
+/**
+ * Repository for the durable mail queue. Each dispatcher operation is its own short transaction, so no
+ * transaction or row lock is held while mail is on the wire.
+ */
+@Repository
+public interface MailQueueRepository extends JpaRepository<QueuedMail, Long> {
+
+    /**
+     * Claims due mail by pushing its next attempt out to {@code leaseUntil} and counting the attempt.
+     * Rows claimed by another node are skipped. If this node dies mid-send, the lease expires and the
+     * mail is picked up again.
+     *
+     * @param now        current time
+     * @param leaseUntil when unconfirmed claims become due again
+     * @param limit      maximum batch size
+     * @return claimed mail, oldest due first
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            UPDATE mail_queue SET attempts = attempts + 1, next_attempt_at = :leaseUntil
+            WHERE id IN (
+                SELECT id FROM mail_queue
+                WHERE failed_at IS NULL AND next_attempt_at <= :now
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """)
+    List<QueuedMail> claimDue(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("limit") int limit);
+
+    /**
+     * Removes mail that was handed to the transport.
+     *
+     * @param ids sent mail
+     * @return number of rows deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM QueuedMail m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Schedules another attempt for mail that could not be sent.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE QueuedMail m SET m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Gives up on mail that exhausted its retries; the row stays for inspection.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE QueuedMail m SET m.failedAt = :now, m.lastError = :error WHERE m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("error") String error);
+}
@@ -0,0 +1,97 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.model.RefreshToken;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for {@link RefreshToken} records backing refresh-token rotation and revocation in Zelvo.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a refresh token by its JWT id ({@code jti}).
+     *
+     * @param tokenId token id
+     * @return optional token record
+     */
+    Optional<RefreshToken> findByTokenId(String tokenId);
+
+    /**
+     * Marks a token rotated unless it already was. Concurrent calls for the same token serialize on its
+     * row, and only the first sees it unrotated, so exactly one of them gets 1.
+     *
+     * @param tokenId token id
+     * @param now     rotation timestamp
+     * @return 1 if this call rotated the token, 0 if it was already rotated or revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.rotatedAt = :now WHERE t.tokenId = :tokenId AND t.rotatedAt IS NULL AND t.revokedAt IS NULL")
+    int markRotated(@Param("tokenId") String tokenId, @Param("now") LocalDateTime now);
+
+    /**
+     * Checks whether any token of the family has been revoked. Read-write on purpose: with read replicas
+     * enabled, a just-revoked family must be confirmed on the primary.
+     *
+     * @param familyId token family id
+     * @return true if the family is revoked
+     */
+    @Transactional
+    boolean existsByFamilyIdAndRevokedAtIsNotNull(String familyId);
+
+    /**
+     * Revokes every not-yet-revoked token in a family.
+     *
+     * @param familyId token family id
+     * @param now      revocation timestamp
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Streams the ids of revoked families whose tokens have not expired yet. Used to rebuild the
+     * in-memory revocation filter; must be consumed inside a transaction.
+     *
+     * @param now current time
+     * @return stream of family ids
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT DISTINCT t.familyId FROM RefreshToken t WHERE t.revokedAt IS NOT NULL AND t.expiresAt > :now")
+    Stream<String> streamRevokedFamilyIds(@Param("now") LocalDateTime now);
+
+    /**
+     * Returns the ids of families revoked at or after the given instant.
+     *
+     * @param since lower bound for the revocation timestamp
+     * @return family ids
+     */
+    @Query("SELECT DISTINCT t.familyId FROM RefreshToken t WHERE t.revokedAt >= :since")
+    List<String> findFamilyIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Deletes tokens that expired before the given instant.
+     *
+     * @param cutoff expiry cutoff
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
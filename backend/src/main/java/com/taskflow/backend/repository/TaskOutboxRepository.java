@@ -0,0 +1,83 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.TaskOutboxEvent;
+
+/**
+ * Repository for the task outbox: appends from {@code TaskService}, claim and delete for the relay.
+ */
+@Repository
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEvent, Long> {
+
+    /**
+     * Appends one event per live task of the user among {@code taskIds}. The tasks are locked before
+     * the event ids are drawn, so events of the same task always get increasing ids in commit order.
+     * Must run inside the transaction that changed the tasks, after the change has been flushed.
+     *
+     * @param type    event type
+     * @param userId  task owner
+     * @param taskIds changed tasks
+     * @param now     event timestamp
+     * @return number of events appended
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            WITH changed AS (
+                SELECT id, user_id, assignee_id FROM tasks
+                WHERE user_id = :userId AND id IN (:taskIds) AND deleted_at IS NULL
+                ORDER BY id
+                FOR UPDATE
+            )
+            INSERT INTO task_outbox (type, task_id, user_id, assignee_id, created_at)
+            SELECT :type, id, user_id, assignee_id, :now FROM changed ORDER BY id
+            """)
+    int appendForTasks(@Param("type") String type, @Param("userId") Long userId,
+            @Param("taskIds") Collection<Long> taskIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Takes the shard's relay lock for the current transaction. Only one node drains a shard at a
+     * time, which keeps delivery within the shard in id order.
+     *
+     * @param key advisory lock key
+     * @return whether the lock was taken
+     */
+    @Query(nativeQuery = true, value = "SELECT pg_try_advisory_xact_lock(:key)")
+    boolean tryLockShard(@Param("key") long key);
+
+    /**
+     * Locks and returns the oldest events of a shard; shards split events by owner. Rows still locked by
+     * another relay transaction are skipped rather than waited for.
+     *
+     * @param shards number of shards
+     * @param shard  shard to read
+     * @param limit  maximum batch size
+     * @return events in id order
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM task_outbox
+            WHERE mod(user_id, :shards) = :shard
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """)
+    List<TaskOutboxEvent> claimBatch(@Param("shards") int shards, @Param("shard") int shard, @Param("limit") int limit);
+
+    /**
+     * Removes delivered events.
+     *
+     * @param ids event ids
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM TaskOutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
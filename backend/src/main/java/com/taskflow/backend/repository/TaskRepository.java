@@ -1,17 +1,36 @@
 package com.taskflow.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskflow.backend.model.Task;
 import com.taskflow.backend.model.User;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for CRUD and custom queries over {@link Task} entities in Zelvo.
+ * <p>
+ * Every request-path query filters on the owner's {@code user_id}, the partition key of the tasks table when it is
+ * partitioned (V4 migration). Use these methods rather than the inherited id-only lookups, which
+ * have to probe every partition. The exception is {@link #findByWorkspaceId}, which reads a shared workspace
+ * across owners through the {@code (workspace_id, ...)} indexes of each partition. Tombstoned (soft-deleted) tasks are excluded from all JPQL and
+ * derived queries by the entity's {@code @SQLRestriction}; native queries must filter them explicitly.
  */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -34,4 +53,218 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     // Find all tasks for a specific user with pagination
     Page<Task> findByUser(User user, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Returns a page of a workspace's tasks, whoever owns them. Each {@link com.taskflow.backend.service.TaskSort}
+     * order is served by a partial {@code idx_tasks_workspace_*} index; owners, categories and assignees
+     * are fetched in the same query.
+     *
+     * @param workspaceId workspace id
+     * @param pageable    paging specification
+     * @return page of tasks
+     */
+    @EntityGraph(attributePaths = {"user", "category", "assignee"})
+    Page<Task> findByWorkspaceId(Long workspaceId, Pageable pageable);
+
+    /**
+     * Finds a task by id within its owner's partition.
+     *
+     * @param id     task id
+     * @param userId owner id
+     * @return the task, or empty if it does not exist or belongs to someone else
+     */
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Finds the given tasks of one owner; ids owned by other users are silently skipped.
+     *
+     * @param userId owner id
+     * @param ids    task ids
+     * @return owned tasks among {@code ids}
+     */
+    List<Task> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    /**
+     * Returns {@code [taskId, assigneeId]} pairs for the given tasks of one owner; the assignee id may
+     * be {@code null}.
+     *
+     * @param userId owner id
+     * @param ids    task ids
+     * @return id pairs
+     */
+    @Query("SELECT t.id, a.id FROM Task t LEFT JOIN t.assignee a WHERE t.userId = :userId AND t.id IN :ids")
+    List<Object[]> findAssigneeIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts the active (not archived) tasks of a user.
+     *
+     * @param userId owner id
+     * @return number of tasks
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * Returns {@code [id, title, completed, updatedAt]} for every task of a user, for the type-ahead index.
+     *
+     * @param userId owner id
+     * @return task rows
+     */
+    @Query("SELECT t.id, t.title, t.completed, t.updatedAt FROM Task t WHERE t.userId = :userId")
+    List<Object[]> findTitlesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts the active tasks of a user that carry a label. Served by the primary key of
+     * {@code task_label_links}, which leads with {@code (user_id, label_id)}.
+     *
+     * @param userId  owner id
+     * @param labelId label id
+     * @return number of tasks
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT count(*) FROM task_label_links l
+            JOIN tasks t ON t.user_id = l.user_id AND t.id = l.task_id
+            WHERE l.user_id = :userId AND l.label_id = :labelId AND t.deleted_at IS NULL
+            """)
+    long countByUserIdAndLabelId(@Param("userId") Long userId, @Param("labelId") Integer labelId);
+
+    /**
+     * Returns a user's tasks changed after the {@code (since, sinceId)} position and no later than
+     * {@code horizon}, in change order. Native on purpose: tombstoned tasks are included so that
+     * clients learn about deletions. Served by {@code idx_tasks_user_updated_at}.
+     *
+     * @param userId  owner id
+     * @param since   updated_at of the last change already seen
+     * @param sinceId id of the last change already seen
+     * @param horizon upper bound for updated_at
+     * @param limit   maximum number of rows
+     * @return changed tasks, including tombstones
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM tasks
+            WHERE user_id = :userId
+              AND (updated_at, id) > (:since, :sinceId)
+              AND updated_at <= :horizon
+            ORDER BY updated_at, id
+            LIMIT :limit
+            """)
+    List<Task> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+            @Param("sinceId") long sinceId, @Param("horizon") LocalDateTime horizon, @Param("limit") int limit);
+
+    /**
+     * Tombstones the given tasks of one owner in a single statement.
+     *
+     * @param userId owner id
+     * @param ids    task ids; ids owned by other users are skipped
+     * @param now    deletion timestamp, also written to {@code updatedAt}
+     * @return number of tasks tombstoned
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.deletedAt = :now, t.updatedAt = :now WHERE t.userId = :userId AND t.id IN :ids")
+    int softDeleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Clears the tombstone of a task that has not been purged yet.
+     *
+     * @param id     task id
+     * @param userId owner id
+     * @param now    restore timestamp, written to {@code updated_at}
+     * @return 1 if restored, 0 if there is no such deleted task
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE tasks SET deleted_at = NULL, updated_at = :now
+            WHERE user_id = :userId AND id = :id AND deleted_at IS NOT NULL
+            """)
+    int restore(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Physically deletes one batch of tasks tombstoned before {@code cutoff}, in its own transaction.
+     * Collection rows go with them through {@code ON DELETE CASCADE}; rows locked by in-flight
+     * requests are skipped.
+     *
+     * @param cutoff    tombstone cutoff
+     * @param batchSize maximum number of tasks to delete
+     * @return number of tasks deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            DELETE FROM tasks t
+            USING (
+                SELECT user_id, id FROM tasks
+                WHERE deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ) b
+            WHERE t.user_id = b.user_id AND t.id = b.id
+            """)
+    int purgeDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    /**
+     * Streams all tasks of a user through a server-side cursor, with category and assignee fetched
+     * in the same row. Must be consumed inside a (read-only) transaction and closed afterwards.
+     *
+     * @param userId owner id
+     * @return stream of tasks ordered by id
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.category LEFT JOIN FETCH t.assignee WHERE t.user.id = :userId ORDER BY t.id")
+    Stream<Task> streamByUserId(@Param("userId") Long userId);
+
+    /**
+     * Returns {@code [taskId, dueDate]} pairs of pending tasks due in {@code (from, to]} whose reminder
+     * has not gone out, in {@code (dueDate, id)} order after the given position. Served by
+     * idx_tasks_due_date_pending_reminder.
+     *
+     * @param from     exclusive lower due-date bound
+     * @param to       inclusive upper due-date bound
+     * @param afterDue due date of the last row of the previous page ({@code from} for the first page)
+     * @param afterId  id of that row ({@code 0} for the first page)
+     * @param page     page size
+     * @return id and due-date pairs
+     */
+    @Query("""
+            SELECT t.id, t.dueDate FROM Task t
+            WHERE t.dueDate > :from AND t.dueDate <= :to
+              AND t.completed = false AND t.remindedAt IS NULL
+              AND (t.dueDate > :afterDue OR (t.dueDate = :afterDue AND t.id > :afterId))
+            ORDER BY t.dueDate, t.id
+            """)
+    List<Object[]> findReminderCandidates(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterDue") LocalDateTime afterDue, @Param("afterId") long afterId, Pageable page);
+
+    /**
+     * Marks the reminders of the given tasks as sent and returns {@code [taskId, userId, assigneeId]} for
+     * each task this call claimed. A task is only claimed if it is still pending, due by
+     * {@code dueBefore} and not reminded yet, so stale timers and other nodes firing the same reminder
+     * are no-ops. With {@code outbox} set, a {@code task.due} event is appended to the outbox for each
+     * claimed task in the same statement.
+     *
+     * @param ids       tasks whose timers fired
+     * @param dueBefore latest due date that is due for a reminder now
+     * @param now       reminder timestamp
+     * @param outbox    whether to append outbox events
+     * @return claimed tasks
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            WITH due AS (
+                UPDATE tasks SET reminded_at = :now
+                WHERE id IN (:ids) AND due_date <= :dueBefore
+                  AND NOT completed AND deleted_at IS NULL AND reminded_at IS NULL
+                RETURNING id, user_id, assignee_id
+            ), queued AS (
+                INSERT INTO task_outbox (type, task_id, user_id, assignee_id, created_at)
+                SELECT 'task.due', id, user_id, assignee_id, :now FROM due WHERE :outbox
+            )
+            SELECT id, user_id, assignee_id FROM due
+            """)
+    List<Object[]> claimDueReminders(@Param("ids") Collection<Long> ids, @Param("dueBefore") LocalDateTime dueBefore,
+            @Param("now") LocalDateTime now, @Param("outbox") boolean outbox);
+}
@@ -0,0 +1,41 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.UserActivity;
+
+/**
+ * Read side of the user activity log. Writes bypass JPA and go through
+ * {@link com.taskflow.backend.service.ActivityRecorder}'s JDBC batches.
+ */
+@Repository
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+
+    /**
+     * Returns a user's entries strictly older than the {@code (before, beforeId)} position, newest first.
+     * The row-value comparison walks idx_user_activity_user_occurred_at backwards, and the plain bound on
+     * {@code occurred_at} lets the planner skip partitions newer than the position.
+     *
+     * @param userId   log owner
+     * @param before   timestamp of the last entry already returned
+     * @param beforeId id of that entry, breaking timestamp ties
+     * @param limit    maximum number of entries
+     * @return matching entries
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM user_activity
+            WHERE user_id = :userId
+              AND occurred_at <= :before
+              AND (occurred_at, id) < (:before, :beforeId)
+            ORDER BY occurred_at DESC, id DESC
+            LIMIT :limit
+            """)
+    List<UserActivity> findPageBefore(@Param("userId") Long userId, @Param("before") LocalDateTime before,
+            @Param("beforeId") long beforeId, @Param("limit") int limit);
+}
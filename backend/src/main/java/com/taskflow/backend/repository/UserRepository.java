@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.taskflow.backend.model.User;
@@ -36,4 +37,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return active user list
      */
     List<User> findByIsActiveTrue();
+
+    /**
+     * Returns {@code [id, name, email]} for every active user, without loading the entities.
+     *
+     * @return active user rows
+     */
+    @Query("SELECT u.id, u.name, u.email FROM User u WHERE u.isActive = true")
+    List<Object[]> findActiveSummaries();
 }
@@ -0,0 +1,54 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.UserToken;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository for one-time {@link UserToken}s.
+ */
+@Repository
+public interface UserTokenRepository extends JpaRepository<UserToken, Long> {
+
+    /**
+     * Loads a token for redemption, locking its row so two requests cannot both use it.
+     *
+     * @param tokenHash SHA-256 hex of the raw token
+     * @return the token, if one was issued with that hash
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Invalidates a user's outstanding tokens for one purpose, so only the most recently mailed one works.
+     *
+     * @param userId  token owner
+     * @param purpose token purpose
+     * @param now     time of invalidation
+     * @return number of tokens invalidated
+     */
+    @Modifying
+    @Query("UPDATE UserToken t SET t.usedAt = :now WHERE t.userId = :userId AND t.purpose = :purpose AND t.usedAt IS NULL")
+    int invalidateOutstanding(@Param("userId") Long userId, @Param("purpose") UserToken.Purpose purpose,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes tokens that expired before the given instant.
+     *
+     * @param cutoff expiry cutoff
+     * @return number of tokens deleted
+     */
+    @Modifying
+    @Query("DELETE FROM UserToken t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,69 @@
+package com.taskflow.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.Workspace;
+
+/**
+ * Spring Data repository for Zelvo workspaces and their {@code workspace_members} rows. Membership has
+ * no entity of its own; it is read and written with native queries on the member table's primary key
+ * {@code (workspace_id, user_id)}.
+ */
+@Repository
+public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+
+    /**
+     * Returns the workspaces a user belongs to, by name.
+     *
+     * @param userId member id
+     * @return the user's workspaces
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT w.* FROM workspace_members m JOIN workspaces w ON w.id = m.workspace_id
+            WHERE m.user_id = :userId
+            ORDER BY w.name, w.id
+            """)
+    List<Workspace> findByMemberId(@Param("userId") Long userId);
+
+    /**
+     * Returns {@code [userId, role]} pairs for every member of a workspace.
+     *
+     * @param workspaceId workspace id
+     * @return members with their role name
+     */
+    @Query(nativeQuery = true, value = "SELECT user_id, role FROM workspace_members WHERE workspace_id = :workspaceId")
+    List<Object[]> findMembers(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * Adds a member, leaving an existing membership (and its role) untouched.
+     *
+     * @param workspaceId workspace id
+     * @param userId      user id
+     * @param role        role name
+     * @return 1 if the user was added, 0 if already a member
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO workspace_members (workspace_id, user_id, role, joined_at)
+            VALUES (:workspaceId, :userId, :role, now())
+            ON CONFLICT (workspace_id, user_id) DO NOTHING
+            """)
+    int addMember(@Param("workspaceId") Long workspaceId, @Param("userId") Long userId, @Param("role") String role);
+
+    /**
+     * Removes a member.
+     *
+     * @param workspaceId workspace id
+     * @param userId      user id
+     * @return 1 if the user was a member, otherwise 0
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM workspace_members WHERE workspace_id = :workspaceId AND user_id = :userId")
+    int removeMember(@Param("workspaceId") Long workspaceId, @Param("userId") Long userId);
+}
@@ -9,6 +9,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.taskflow.backend.config.StageMetrics;
+
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,14 +27,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final StageMetrics stageMetrics;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            CustomUserDetailsService userDetailsService,
+            RevokedTokenRegistry revokedTokenRegistry,
+            StageMetrics stageMetrics) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.stageMetrics = stageMetrics;
     }
 
     /**
-     * Extracts the bearer token, validates it and, if valid, populates the security context.
+     * Extracts the bearer token, validates it and, if valid and its session has not been revoked,
+     * populates the security context.
      *
      * @param request  current HTTP request
      * @param response current HTTP response
@@ -45,31 +58,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        final String token;
-        final String email;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        token = authHeader.substring(7);
-        email = jwtTokenProvider.getEmailFromToken(token);
-
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = userDetailsService.loadUserByUsername(email);
+        // Single parse verifies signature and expiry; refresh tokens are not accepted as bearer tokens
+        String token = authHeader.substring(7);
+        Claims claims = stageMetrics.record(StageMetrics.JWT_PARSE, () -> jwtTokenProvider.parseClaims(token));
 
-            if (jwtTokenProvider.validateToken(token)) {
-                var authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (claims != null && !JwtTokenProvider.isRefreshToken(claims)
+                && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null
+                && !isSessionRevoked(claims)) {
+            var userDetails = stageMetrics.record(StageMetrics.USER_LOOKUP,
+                    () -> userDetailsService.loadUserByUsername(claims.getSubject()));
+            var authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities()
+            );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    // O(1) Bloom-filter probe; only a hit falls through to the database
+    private boolean isSessionRevoked(Claims claims) {
+        String familyId = claims.get(JwtTokenProvider.SESSION_CLAIM, String.class);
+        return familyId != null
+                && stageMetrics.record(StageMetrics.REVOCATION_CHECK, () -> revokedTokenRegistry.isRevoked(familyId));
+    }
 }
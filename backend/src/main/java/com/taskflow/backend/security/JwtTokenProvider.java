@@ -9,6 +9,9 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -16,6 +19,7 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Component responsible for generating and validating JWT access & refresh tokens for Zelvo.
@@ -23,6 +27,11 @@ import io.jsonwebtoken.security.SecurityException;
 @Component
 public class JwtTokenProvider {
 
+    /** Claim binding a token to its refresh-token family (login session). */
+    public static final String SESSION_CLAIM = "sid";
+    public static final String TYPE_CLAIM = "typ";
+    public static final String REFRESH_TYPE = "refresh";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -32,9 +41,21 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-expiration}")
     private int refreshExpirationInMs;
 
-    private Key getSigningKey() {
+    private Key signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        // Decode the key and build the (immutable, thread-safe) parser once instead of per token
         byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    private Key getSigningKey() {
+        return signingKey;
     }
 
     /**
@@ -44,43 +65,90 @@ public class JwtTokenProvider {
      * @return signed JWT string
      */
     public String generateToken(Authentication authentication) {
+        return generateToken(authentication, null);
+    }
+
+    /**
+     * Generates a short-lived access token bound to a refresh-token family, so that revoking
+     * the family (logout, reuse detection) also invalidates the access token.
+     *
+     * @param authentication Spring Security principal
+     * @param familyId       refresh-token family id, or {@code null} for an unbound token
+     * @return signed JWT string
+     */
+    public String generateToken(Authentication authentication, String familyId) {
         String username = authentication.getName();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
+                .setExpiration(expiryDate);
+        if (familyId != null) {
+            builder.claim(SESSION_CLAIM, familyId);
+        }
+        return builder
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
     /**
-     * Generates a long-lived refresh token.
+     * Generates a long-lived refresh token carrying its own id ({@code jti}) and family id.
+     *
+     * @param username  subject (user e-mail)
+     * @param tokenId   unique token id persisted alongside the token
+     * @param familyId  family the token belongs to
+     * @return signed JWT string
      */
-    public String generateRefreshToken(Authentication authentication) {
-        String username = authentication.getName();
+    public String generateRefreshToken(String username, String tokenId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpirationInMs);
 
         return Jwts.builder()
                 .setSubject(username)
+                .setId(tokenId)
+                .claim(SESSION_CLAIM, familyId)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * @return refresh token lifetime in milliseconds
+     */
+    public long getRefreshExpirationInMs() {
+        return refreshExpirationInMs;
+    }
+
+    /**
+     * Parses and verifies a token once, returning its claims.
+     *
+     * @param token JWT string
+     * @return claims, or {@code null} if the token is malformed, expired or wrongly signed
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the claims belong to a refresh token rather than an access token.
+     */
+    public static boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM));
+    }
+
     /**
      * Extracts the e-mail (subject) from a token.
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         return claims.getSubject();
     }
@@ -93,10 +161,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (SecurityException ex) {
             // Invalid JWT signature
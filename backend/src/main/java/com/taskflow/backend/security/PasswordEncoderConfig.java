@@ -0,0 +1,96 @@
+package com.taskflow.backend.security;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password hashing configuration for Zelvo.
+ * <p>
+ * Exposes a single {@link PasswordEncoder} bean that:
+ * <ul>
+ *   <li>Encodes new hashes with the configured algorithm ({@code bcrypt} or {@code argon2}) and cost.</li>
+ *   <li>Still verifies legacy, unprefixed BCrypt hashes created before the encoder was made configurable.</li>
+ *   <li>Reports hashes produced with another algorithm or a lower cost as needing an upgrade.</li>
+ *   <li>Runs every hash computation on a dedicated, bounded pool (see {@link BoundedPasswordEncoder}).</li>
+ * </ul>
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    @Value("${app.security.password.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${app.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.security.password.argon2.memory-kib:16384}")
+    private int argon2MemoryKib;
+
+    @Value("${app.security.password.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${app.security.password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${app.security.password.hashing.threads:0}") // 0 = one thread per available core
+    private int hashingThreads;
+
+    @Value("${app.security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${app.security.password.hashing.timeout-ms:5000}")
+    private long hashingTimeoutMs;
+
+    /**
+     * Builds the application-wide password encoder.
+     *
+     * @return bounded, delegating password encoder
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        PasswordEncoder delegate = createDelegatingEncoder(
+                algorithm, bcryptStrength, argon2MemoryKib, argon2Iterations, argon2Parallelism);
+        return new BoundedPasswordEncoder(delegate, threads, hashingQueueCapacity, hashingTimeoutMs);
+    }
+
+    /**
+     * Creates the delegating encoder used for hashing. Kept static so benchmarks can measure
+     * exactly the encoder production uses for a given cost setting.
+     *
+     * @param algorithm         id used for new hashes ({@code bcrypt} or {@code argon2})
+     * @param bcryptStrength    BCrypt log rounds (4-31)
+     * @param argon2MemoryKib   Argon2 memory cost in KiB
+     * @param argon2Iterations  Argon2 time cost
+     * @param argon2Parallelism Argon2 lanes
+     * @return delegating encoder that understands both algorithms
+     */
+    public static DelegatingPasswordEncoder createDelegatingEncoder(
+            String algorithm, int bcryptStrength, int argon2MemoryKib, int argon2Iterations, int argon2Parallelism) {
+        String idForEncode = algorithm == null ? BCRYPT : algorithm.trim().toLowerCase();
+        if (!BCRYPT.equals(idForEncode) && !ARGON2.equals(idForEncode)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKib, argon2Iterations));
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // Hashes stored before this encoder existed carry no {id} prefix and are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
@@ -0,0 +1,192 @@
+package com.taskflow.backend.security;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.dto.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter that enforces per-route rate limits for Zelvo and answers {@code 429 Too Many Requests}
+ * with a {@code Retry-After} header once a client exhausts its budget.
+ * <p>
+ * Each {@link RateLimitPolicy} owns a map of {@link TokenBucket}s keyed by user or client IP; behind a
+ * proxy the client IP comes from {@code X-Forwarded-For} ({@code server.forward-headers-strategy}). Maps are
+ * bounded: when a map reaches its limit, full (idle) buckets are swept first and, if that is not enough,
+ * arbitrary entries are dropped, which only ever makes the limiter more lenient. A scheduled sweep keeps
+ * maps small between bursts.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String DEFAULT_POLICIES =
+            "login:POST:/api/v1/auth/login:ip:10/1m;"
+            + "register:POST:/api/v1/auth/register:ip:5/1m;"
+            + "refresh:POST:/api/v1/auth/refresh-token:ip:30/1m;"
+            + "bulk:*:/api/v1/tasks/bulk:user:5/10s;"
+            + "api:*:/api/v1/**:user:300/1m";
+
+    private final List<PolicyState> policies = new ArrayList<>();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxKeysPerPolicy;
+
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.policies:" + DEFAULT_POLICIES + "}") String policySpec,
+            @Value("${app.rate-limit.max-keys-per-policy:100000}") int maxKeysPerPolicy) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxKeysPerPolicy = maxKeysPerPolicy;
+        for (RateLimitPolicy policy : RateLimitPolicy.parse(policySpec)) {
+            PolicyState state = new PolicyState(policy, Counter.builder("http.ratelimit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry));
+            Gauge.builder("http.ratelimit.buckets", state.buckets, Map::size)
+                    .description("Live token buckets held by the rate limiter")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry);
+            policies.add(state);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || policies.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        PolicyState state = findPolicy(request);
+        if (state == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = state.bucketFor(resolveKey(state.policy, request), now, maxKeysPerPolicy);
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        state.rejected.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Too many requests. Retry after " + retryAfterSeconds + " seconds."));
+    }
+
+    /**
+     * Drops full buckets; runs in the background so the request path never pays for it.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        for (PolicyState state : policies) {
+            state.sweep(now, Integer.MAX_VALUE);
+        }
+    }
+
+    private PolicyState findPolicy(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer container = PathContainer.parsePath(path);
+        String method = request.getMethod();
+        for (PolicyState state : policies) {
+            if (state.policy.matches(method, container)) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    private static String resolveKey(RateLimitPolicy policy, HttpServletRequest request) {
+        if (policy.keyType() == RateLimitPolicy.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return authentication.getName();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static final class PolicyState {
+        final RateLimitPolicy policy;
+        final Counter rejected;
+        final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        final AtomicBoolean sweeping = new AtomicBoolean();
+        final long periodNanos;
+
+        PolicyState(RateLimitPolicy policy, Counter rejected) {
+            this.policy = policy;
+            this.rejected = rejected;
+            this.periodNanos = policy.period().toNanos();
+        }
+
+        TokenBucket bucketFor(String key, long now, int maxKeys) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxKeys) {
+                sweep(now, maxKeys - maxKeys / 10);
+            }
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(policy.capacity(), periodNanos, now));
+        }
+
+        // Removes idle buckets, then arbitrary ones until the map is at or below targetSize
+        void sweep(long now, int targetSize) {
+            if (!sweeping.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(bucket -> bucket.isIdle(now));
+                Iterator<TokenBucket> it = buckets.values().iterator();
+                while (buckets.size() > targetSize && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskflow.backend.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * A per-route rate limit: requests matching {@code method} and {@code pattern} are limited to
+ * {@code capacity} per {@code period}, counted per user or per client IP.
+ *
+ * @param name     policy name, used as a metric tag
+ * @param method   HTTP method, or {@code null} for any method
+ * @param pattern  compiled path pattern
+ * @param keyType  what requests are counted against
+ * @param capacity requests allowed per period (also the burst size)
+ * @param period   refill period
+ */
+public record RateLimitPolicy(
+        String name,
+        String method,
+        PathPattern pattern,
+        KeyType keyType,
+        long capacity,
+        Duration period) {
+
+    public enum KeyType {
+        /** Authenticated principal, falling back to the client IP for anonymous requests. */
+        USER,
+        /** Client IP address. */
+        IP
+    }
+
+    /**
+     * @return true if the request method and parsed path fall under this policy
+     */
+    public boolean matches(String requestMethod, PathContainer path) {
+        return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+    }
+
+    /**
+     * Parses a policy list of the form
+     * {@code name:METHOD:/path/**:user|ip:capacity/period;...}, where METHOD may be {@code *} and
+     * period is an ISO-8601 or simple duration such as {@code 1s}, {@code 60s} or {@code 1m}.
+     *
+     * @param spec policy list
+     * @return policies in declaration order (first match wins)
+     */
+    public static List<RateLimitPolicy> parse(String spec) {
+        List<RateLimitPolicy> policies = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return policies;
+        }
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid rate limit policy: " + entry);
+            }
+            String[] rate = parts[4].split("/");
+            if (rate.length != 2) {
+                throw new IllegalArgumentException("Invalid rate in rate limit policy: " + entry);
+            }
+            policies.add(new RateLimitPolicy(
+                    parts[0],
+                    "*".equals(parts[1]) ? null : parts[1].toUpperCase(),
+                    parser.parse(parts[2]),
+                    KeyType.valueOf(parts[3].toUpperCase()),
+                    Long.parseLong(rate[0]),
+                    parseDuration(rate[1])));
+        }
+        return policies;
+    }
+
+    private static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.startsWith("p")) {
+            return Duration.parse(value.trim());
+        }
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        long amount = Long.parseLong(v.substring(0, v.length() - 1));
+        return switch (v.charAt(v.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+}
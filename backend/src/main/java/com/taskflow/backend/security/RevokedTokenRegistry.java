@@ -0,0 +1,126 @@
+package com.taskflow.backend.security;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.repository.RefreshTokenRepository;
+
+/**
+ * In-memory index of revoked refresh-token families, consulted by {@link JwtAuthenticationFilter}
+ * on every authenticated request.
+ * <p>
+ * A {@link RevocationBloomFilter} answers the common "not revoked" case in O(1) without I/O; only a
+ * filter hit (a real revocation or a rare false positive) is confirmed against the database.
+ * The filter is rebuilt from the database at startup and periodically (Bloom filters cannot forget
+ * expired entries), and revocations made on other nodes are pulled in incrementally.
+ */
+@Component
+public class RevokedTokenRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenRegistry.class);
+
+    // Overlap applied to the incremental sync watermark to tolerate clock skew between nodes
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${app.jwt.revocation.expected-entries:1000000}")
+    private long expectedEntries;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile RevocationBloomFilter filter;
+    private volatile LocalDateTime syncedUntil;
+    private final AtomicLong entryCount = new AtomicLong();
+
+    public RevokedTokenRegistry(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Returns whether the given token family has been revoked.
+     *
+     * @param familyId family id carried in the token's {@code sid} claim
+     * @return true if revoked
+     */
+    public boolean isRevoked(String familyId) {
+        RevocationBloomFilter current = filter;
+        if (current != null && !current.mightContain(familyId)) {
+            return false;
+        }
+        // Filter hit, or filter not built yet: confirm against the source of truth. Only this call opens
+        // a transaction, on the primary (see RefreshTokenRepository)
+        return refreshTokenRepository.existsByFamilyIdAndRevokedAtIsNotNull(familyId);
+    }
+
+    /**
+     * Records a revocation performed by this node. Call after the revoking transaction commits.
+     *
+     * @param familyId revoked family id
+     */
+    public void markRevoked(String familyId) {
+        RevocationBloomFilter current = filter;
+        if (current != null) {
+            current.add(familyId);
+            entryCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Rebuilds the filter from all revoked, unexpired families. Runs at startup and on a fixed delay
+     * so that expired revocations stop occupying filter capacity.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.jwt.revocation.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${app.jwt.revocation.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // Size for the larger of the configured capacity and twice the current population
+        RevocationBloomFilter fresh = new RevocationBloomFilter(
+                Math.max(expectedEntries, entryCount.get() * 2), falsePositiveRate);
+        long count = 0;
+        try (Stream<String> familyIds = refreshTokenRepository.streamRevokedFamilyIds(startedAt)) {
+            for (String familyId : (Iterable<String>) familyIds::iterator) {
+                fresh.add(familyId);
+                count++;
+            }
+        }
+        entryCount.set(count);
+        syncedUntil = startedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+        filter = fresh;
+        logger.info("Rebuilt token revocation filter with {} families ({} bits, {} hashes)",
+                count, fresh.bitCount(), fresh.hashCount());
+    }
+
+    /**
+     * Pulls in families revoked since the last sync, e.g. by logouts handled on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval-ms:15000}")
+    public void syncRecent() {
+        LocalDateTime since = syncedUntil;
+        RevocationBloomFilter current = filter;
+        if (since == null || current == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> familyIds = refreshTokenRepository.findFamilyIdsRevokedSince(since);
+        for (String familyId : familyIds) {
+            current.add(familyId);
+        }
+        entryCount.addAndGet(familyIds.size());
+        syncedUntil = startedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 /**
  * Spring Security configuration for Zelvo.
  * Sets up JWT authentication, OAuth2 login and authorization rules.
@@ -25,6 +27,8 @@ public class SecurityConfig {
 
     @Autowired
     private JwtAuthenticationFilter jwtAuthFilter;
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
     private final AuthenticationEntryPoint unauthorizedHandler;
     private final OAuth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler;
 
@@ -42,6 +46,7 @@ public class SecurityConfig {
      *   <li>Configure CORS via separate {@code WebConfig}.</li>
      *   <li>Expose public endpoints (auth, docs, categories).</li>
      *   <li>Register {@link JwtAuthenticationFilter} before username/password filter.</li>
+     *   <li>Register {@link RateLimitFilter} right after it so limits can be keyed by user.</li>
      *   <li>Integrate OAuth2 login success handler.</li>
      *   <li>Enforce stateless sessions.</li>
      * </ul>
@@ -57,6 +62,8 @@ public class SecurityConfig {
                 .cors(cors -> {})
                 .authorizeHttpRequests(requests -> requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // Re-dispatch of an already authorized async (streaming) request; the JWT is not re-read
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/v1/auth/**",
                                 "/oauth2/**",
@@ -67,12 +74,15 @@ public class SecurityConfig {
                                 "/swagger-ui.html"
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
+                        // Liveness and Prometheus scraping; keep /actuator off the public ingress
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(management -> management.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2Login(oauth2 -> oauth2
                         .successHandler(oauth2AuthenticationSuccessHandler)
                 )
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,55 @@
+package com.taskflow.backend.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm (GCRA).
+ * <p>
+ * The whole bucket state is a single "theoretical arrival time" held in an {@link AtomicLong}, so an
+ * acquire is one read plus one CAS and allocates nothing. A bucket whose arrival time lies in the past
+ * is full, which makes it safe to evict and lazily recreate.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param capacity     maximum burst size (tokens)
+     * @param periodNanos  time it takes to refill {@code capacity} tokens
+     * @param nowNanos     current {@link System#nanoTime()}
+     */
+    public TokenBucket(long capacity, long periodNanos, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, periodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Attempts to take one token.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long excess = newTat - nowNanos - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return true if the bucket is full, i.e. forgetting it would not change any decision
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskflow.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+import com.taskflow.backend.exception.ValidationException;
+
+/**
+ * Keyset position in a user's activity log: the {@code (occurred_at, id)} key of the oldest entry a
+ * client has received. Handed to clients as an opaque, URL-safe token.
+ *
+ * @param occurredAt entry timestamp (microsecond precision, as stored)
+ * @param id         entry id, breaking ties between entries with the same timestamp
+ */
+public record ActivityCursor(LocalDateTime occurredAt, long id) {
+
+    private static final String VERSION = "1";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** Position after the newest entry; used for the first page. */
+    public static final ActivityCursor NEWEST = new ActivityCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    /**
+     * @return opaque token for this position
+     */
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(EPOCH, occurredAt);
+        String raw = VERSION + "." + micros + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token client-supplied token; {@code null} or blank means {@link #NEWEST}
+     * @return decoded position
+     * @throws ValidationException if the token is malformed
+     */
+    public static ActivityCursor parse(String token) {
+        if (token == null || token.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split("\\.");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new ValidationException("Invalid activity cursor");
+            }
+            LocalDateTime occurredAt = EPOCH.plus(Long.parseLong(parts[1]), ChronoUnit.MICROS);
+            return new ActivityCursor(occurredAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid activity cursor");
+        }
+    }
+}
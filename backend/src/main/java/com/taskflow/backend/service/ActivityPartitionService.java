@@ -0,0 +1,101 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the monthly partitions of the Zelvo {@code user_activity} table: creates the coming months
+ * before any row can land in them, and drops months older than the retention period. Dropping a
+ * partition is a metadata operation, so expiring a month of activity costs no row deletes, no vacuum
+ * and no index churn.
+ */
+@Service
+public class ActivityPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityPartitionService.class);
+
+    static final String PARTITION_PREFIX = "user_activity_";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public ActivityPartitionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.activity.partitions-ahead:2}") int monthsAhead,
+            @Value("${app.activity.retention-months:13}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Creates missing partitions up to {@code app.activity.partitions-ahead} months ahead and drops
+     * expired ones. Idempotent; runs at startup and daily.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.activity.partition-cron:0 10 0 * * *}")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDate from = month.atDay(1);
+            execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                    + " PARTITION OF user_activity FOR VALUES FROM ('" + from + "') TO ('" + from.plusMonths(1) + "')");
+        }
+        if (retentionMonths > 0) {
+            dropBefore(current.minusMonths(retentionMonths));
+        }
+    }
+
+    private void dropBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'user_activity'
+                """, String.class);
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                execute("DROP TABLE IF EXISTS " + partition);
+                logger.info("Dropped activity partition {}", partition);
+            }
+        }
+    }
+
+    // Pooled connections have auto-commit off; each DDL statement commits on its own so that one failure
+    // does not undo the partitions already created
+    private void execute(String sql) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(sql));
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    // Null for partitions this service does not manage, such as the default partition
+    static YearMonth monthOf(String partition) {
+        if (!partition.matches(PARTITION_PREFIX + "\\d{4}_\\d{2}")) {
+            return null;
+        }
+        return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+    }
+}
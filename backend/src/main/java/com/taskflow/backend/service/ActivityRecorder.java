@@ -0,0 +1,188 @@
+package com.taskflow.backend.service;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.model.UserActivity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Asynchronous, batched writer for the Zelvo user activity log.
+ * <p>
+ * Recording only appends to a bounded in-memory queue, so the request path never waits on the
+ * database. A scheduled flush drains the queue and appends the entries with JDBC batch inserts. When
+ * the queue is full (the database is down or far behind), new entries are dropped and counted rather
+ * than slowing requests down; entries still queued when the instance stops abruptly are lost. The log
+ * is an audit trail for users, not a source of truth.
+ */
+@Service
+public class ActivityRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRecorder.class);
+
+    private static final String INSERT = "INSERT INTO user_activity (user_id, occurred_at, type, task_id, details) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    // Matches the column width; longer details (task titles) are truncated
+    private static final int MAX_DETAILS_LENGTH = 255;
+
+    record Entry(long userId, LocalDateTime occurredAt, UserActivity.Type type, Long taskId, String details) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    // Pooled connections have auto-commit off, so every batch needs a transaction of its own
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Entry> queue;
+    // Keeps the scheduled flush and the shutdown flush from interleaving
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter written;
+    private final Counter dropped;
+
+    public ActivityRecorder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.activity.enabled:true}") boolean enabled,
+            @Value("${app.activity.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.activity.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("zelvo.activity.queued", queue, BlockingQueue::size)
+                .description("Activity entries waiting to be written")
+                .register(meterRegistry);
+        this.written = Counter.builder("zelvo.activity.written")
+                .description("Activity entries appended to the log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("zelvo.activity.dropped")
+                .description("Activity entries discarded because the queue was full or a batch failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an entry for the next flush. Never blocks.
+     *
+     * @param userId  user the entry belongs to; {@code null} is ignored
+     * @param type    what happened
+     * @param taskId  affected task, if any
+     * @param details short free-text context, e.g. the task title
+     */
+    public void record(Long userId, UserActivity.Type type, Long taskId, String details) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (details != null && details.length() > MAX_DETAILS_LENGTH) {
+            details = details.substring(0, MAX_DETAILS_LENGTH);
+        }
+        if (!queue.offer(new Entry(userId, LocalDateTime.now(), type, taskId, details))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Queues an entry once the current transaction commits, or immediately if none is active, so that
+     * rolled-back changes never show up in the log.
+     */
+    public void recordAfterCommit(Long userId, UserActivity.Type type, Long taskId, String details) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId, type, taskId, details);
+                }
+            });
+        } else {
+            record(userId, type, taskId, details);
+        }
+    }
+
+    /**
+     * Writes everything queued so far, one JDBC batch per {@code app.activity.batch-size} entries.
+     *
+     * @return number of entries written
+     */
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval-ms:1000}")
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            return drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Waits for a running scheduled flush instead of skipping, so nothing queued is left behind
+    @PreDestroy
+    void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int drain() {
+        int total = 0;
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            total += write(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    private int write(List<Entry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, entry) -> {
+                ps.setLong(1, entry.userId());
+                ps.setTimestamp(2, Timestamp.valueOf(entry.occurredAt()));
+                ps.setString(3, entry.type().name());
+                if (entry.taskId() != null) {
+                    ps.setLong(4, entry.taskId());
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setString(5, entry.details());
+            }));
+            written.increment(batch.size());
+            return batch.size();
+        } catch (DataAccessException | TransactionException e) {
+            // Not retried: a failing batch would otherwise block everything queued behind it
+            logger.warn("Dropped {} activity entries: {}", batch.size(), e.getMessage());
+            dropped.increment(batch.size());
+            return 0;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.taskflow.backend.service;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,15 +14,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.taskflow.backend.config.StageMetrics;
 import com.taskflow.backend.dto.JwtResponse;
 import com.taskflow.backend.dto.LoginRequest;
 import com.taskflow.backend.dto.RegisterRequest;
+import com.taskflow.backend.exception.ServiceUnavailableException;
 import com.taskflow.backend.exception.UnauthorizedException;
 import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserActivity;
+import com.taskflow.backend.model.UserToken;
 import com.taskflow.backend.repository.UserRepository;
 import com.taskflow.backend.security.JwtTokenProvider;
 
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Service that encapsulates authentication logic for Zelvo including login, registration,
@@ -38,16 +42,34 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final StageMetrics stageMetrics;
+    private final ActivityRecorder activityRecorder;
+    private final UserTokenService userTokenService;
+    private final MailService mailService;
+    private final TypeaheadService typeaheadService;
 
     public AuthService(
             AuthenticationManager authenticationManager,
             JwtTokenProvider jwtTokenProvider,
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            RefreshTokenService refreshTokenService,
+            StageMetrics stageMetrics,
+            ActivityRecorder activityRecorder,
+            UserTokenService userTokenService,
+            MailService mailService,
+            TypeaheadService typeaheadService) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
+        this.stageMetrics = stageMetrics;
+        this.activityRecorder = activityRecorder;
+        this.userTokenService = userTokenService;
+        this.mailService = mailService;
+        this.typeaheadService = typeaheadService;
     }
 
     /**
@@ -59,49 +81,76 @@ public class AuthService {
     public JwtResponse login(LoginRequest request) {
         Authentication authentication;
         try {
-            authentication = authenticationManager.authenticate(
+            // Includes the user load and the password hash check
+            authentication = stageMetrics.record(StageMetrics.AUTHENTICATE, () -> authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-            );
+            ));
         } catch (AuthenticationException e) {
             logger.warn("Authentication failed for user {}: {}", request.getEmail(), e.getMessage());
             throw new UnauthorizedException("Invalid email or password.");
         }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        
-        String token;
-        String refreshToken;
-        try {
-            token = jwtTokenProvider.generateToken(authentication);
-            refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
-        } catch (JwtException e) {
-            logger.error("Error generating JWT tokens for user {}: {}", authentication.getName(), e.getMessage(), e);
-            throw new RuntimeException("Error generating authentication tokens. Please try again later.");
-        } catch (Exception e) {
-            logger.error("Unexpected error generating JWT tokens for user {}: {}", authentication.getName(), e.getMessage(), e);
-            throw new RuntimeException("Unexpected error during token generation. Please try again later.");
-        }
 
         User user;
         try {
-            user = userRepository.findByEmail(authentication.getName())
+            user = stageMetrics.record(StageMetrics.USER_LOOKUP, () -> userRepository.findByEmail(authentication.getName()))
                     .orElseThrow(() -> {
                         logger.error("User {} authenticated but not found in repository.", authentication.getName());
                         return new UnauthorizedException("Authenticated user details not found. Please contact support.");
                     });
             
             user.setLastLogin(LocalDateTime.now());
+            rehashIfOutdated(user, request.getPassword());
             userRepository.save(user);
         } catch (DataAccessException e) {
             logger.error("Data access error during login for user {}: {}", authentication.getName(), e.getMessage(), e);
             throw new RuntimeException("A data access error occurred while finalizing login. Please try again later.");
         }
 
+        String token;
+        String refreshToken;
+        try {
+            Timer.Sample sample = Timer.start();
+            String familyId = refreshTokenService.newFamily();
+            token = jwtTokenProvider.generateToken(authentication, familyId);
+            refreshToken = refreshTokenService.issue(user, familyId);
+            sample.stop(stageMetrics.timer(StageMetrics.TOKEN_ISSUE));
+        } catch (JwtException e) {
+            logger.error("Error generating JWT tokens for user {}: {}", authentication.getName(), e.getMessage(), e);
+            throw new RuntimeException("Error generating authentication tokens. Please try again later.");
+        } catch (Exception e) {
+            logger.error("Unexpected error generating JWT tokens for user {}: {}", authentication.getName(), e.getMessage(), e);
+            throw new RuntimeException("Unexpected error during token generation. Please try again later.");
+        }
+
+        activityRecorder.record(user.getId(), UserActivity.Type.LOGIN, null, null);
         return new JwtResponse(token, refreshToken, user);
     }
 
     /**
-     * Registers a new Zelvo user account and queues an e-mail verification message.
+     * Re-encodes the stored hash with the current algorithm and cost when it was produced with
+     * older settings. Only possible right after a successful login, while the raw password is known.
+     *
+     * @param user        freshly authenticated user
+     * @param rawPassword password the user just authenticated with
+     */
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (rawPassword == null || user.getPassword() == null || !passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            logger.info("Upgraded password hash for user {}", user.getEmail());
+        } catch (ServiceUnavailableException e) {
+            // Best effort: the upgrade is retried on the next login
+            logger.debug("Skipped password hash upgrade for user {}: {}", user.getEmail(), e.getMessage());
+        }
+    }
+
+    /**
+     * Registers a new Zelvo user account and queues an e-mail verification message. The message is
+     * only queued here; it is sent in the background by {@link MailDispatcher}.
      *
      * @param request registration payload
      */
@@ -122,22 +171,28 @@ public class AuthService {
         user.setRole("USER");
         user.setActive(true);
 
-        // Generate verification token
-        String verificationToken = UUID.randomUUID().toString();
-        // TODO: Store verification token and send verification email
-
         userRepository.save(user);
+        mailService.queueVerificationEmail(user, userTokenService.issue(user, UserToken.Purpose.EMAIL_VERIFICATION));
+        activityRecorder.recordAfterCommit(user.getId(), UserActivity.Type.REGISTERED, null, null);
+        typeaheadService.userChanged(user);
     }
 
     /**
-     * Completes e-mail verification for a user.
+     * Completes e-mail verification for a user. Verifying an already verified address keeps the original
+     * verification time.
      *
      * @param token verification token
+     * @throws UnauthorizedException if the token is unknown, used or expired
      */
     @Transactional
     public void verifyEmail(String token) {
-        // TODO: Implement email verification logic
-        throw new UnauthorizedException("Not implemented");
+        Long userId = userTokenService.consume(token, UserToken.Purpose.EMAIL_VERIFICATION);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired token"));
+        if (user.getEmailVerifiedAt() == null) {
+            user.setEmailVerifiedAt(LocalDateTime.now());
+            userRepository.save(user);
+        }
     }
 
     /**
@@ -149,7 +204,7 @@ public class AuthService {
     public void resendVerificationEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UnauthorizedException("User not found"));
-        // TODO: Generate new verification token and send email
+        mailService.queueVerificationEmail(user, userTokenService.issue(user, UserToken.Purpose.EMAIL_VERIFICATION));
     }
 
     /**
@@ -159,32 +214,27 @@ public class AuthService {
      * @return new JWT response containing freshly minted tokens
      */
     public JwtResponse refreshToken(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
-
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found"));
+        RefreshTokenService.Rotation rotation = stageMetrics.record(StageMetrics.TOKEN_ROTATE,
+                () -> refreshTokenService.rotate(refreshToken));
 
         // Create authentication object for token generation
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getEmail(), null, java.util.Collections.emptyList());
+                rotation.email(), null, java.util.Collections.emptyList());
         
-        String newToken = jwtTokenProvider.generateToken(authentication);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+        String newToken = jwtTokenProvider.generateToken(authentication, rotation.familyId());
+        activityRecorder.record(rotation.userId(), UserActivity.Type.TOKEN_REFRESHED, null, null);
 
-        return new JwtResponse(newToken, newRefreshToken);
+        return new JwtResponse(newToken, rotation.refreshToken());
     }
 
     /**
-     * Invalidates a refresh token, effectively logging the user out.
+     * Invalidates a refresh token, effectively logging the user out. Revokes the token's whole family,
+     * which also invalidates access tokens issued from the same login.
      *
      * @param refreshToken token to revoke
      */
-    @Transactional
     public void logout(String refreshToken) {
-        // TODO: Implement token invalidation logic
-        // This could involve storing the token in a blacklist or deleting it from a valid tokens table
+        refreshTokenService.revoke(refreshToken)
+                .ifPresent(userId -> activityRecorder.record(userId, UserActivity.Type.LOGOUT, null, null));
     }
 }
@@ -3,7 +3,9 @@ package com.taskflow.backend.service;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.taskflow.backend.exception.ValidationException;
 import com.taskflow.backend.model.Category;
 import com.taskflow.backend.repository.CategoryRepository;
 
@@ -14,27 +16,49 @@ import com.taskflow.backend.repository.CategoryRepository;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final WorkspaceService workspaceService;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, WorkspaceService workspaceService) {
         this.categoryRepository = categoryRepository;
+        this.workspaceService = workspaceService;
     }
 
     /**
-     * Fetches all categories.
+     * Fetches the categories available to a user: the global ones, plus those of a workspace the user
+     * belongs to if one is given.
      *
-     * @return list of categories
+     * @param callerId    requesting user
+     * @param workspaceId workspace id, or {@code null} for global categories only
+     * @return list of categories by name
      */
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<Category> getCategories(Long callerId, Long workspaceId) {
+        if (workspaceId == null) {
+            return categoryRepository.findByWorkspaceIdIsNullOrderByName();
+        }
+        workspaceService.requireMember(workspaceId, callerId);
+        return categoryRepository.findByWorkspaceIdIsNullOrWorkspaceIdOrderByName(workspaceId);
     }
 
     /**
-     * Persists a new category record.
+     * Persists a new category in a workspace the user belongs to.
      *
-     * @param category category to create
+     * @param callerId    requesting user
+     * @param workspaceId owning workspace
+     * @param category    category to create
      * @return created category
      */
-    public Category createCategory(Category category) {
+    @Transactional
+    public Category createCategory(Long callerId, Long workspaceId, Category category) {
+        workspaceService.requireMember(workspaceId, callerId);
+        if (category.getName() == null || category.getName().isBlank()) {
+            throw new ValidationException("Category name is required");
+        }
+        if (categoryRepository.existsByWorkspaceIdAndName(workspaceId, category.getName())) {
+            throw new ValidationException("Category already exists: " + category.getName());
+        }
+        category.setId(null);
+        category.setWorkspaceId(workspaceId);
         return categoryRepository.save(category);
     }
 }
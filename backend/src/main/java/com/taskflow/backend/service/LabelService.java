@@ -0,0 +1,219 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.model.Label;
+import com.taskflow.backend.repository.LabelRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-user label dictionaries for Zelvo tasks.
+ * <p>
+ * Label names are interned: each user has one {@link Label} row per name (case-insensitive) and tasks
+ * link to it by id. Recently used dictionaries are held in memory as a {@link Trie} keyed by lower-cased
+ * name, which serves interning, label filters and autocomplete without a query per keystroke. Labels
+ * created on another instance show up here when the cached dictionary expires
+ * ({@code app.labels.cache-ttl}) or when a lookup misses.
+ */
+@Service
+public class LabelService {
+
+    /** Upper bound for a single autocomplete response. */
+    public static final int MAX_SUGGESTIONS = 50;
+
+    // Matches the column width
+    private static final int MAX_NAME_LENGTH = 255;
+
+    // One user's labels. Guarded by itself
+    private static final class Dictionary {
+        final long loadedAt = System.nanoTime();
+        private final Trie<Label> labels = new Trie<>();
+
+        synchronized Label get(String key) {
+            return labels.get(key);
+        }
+
+        synchronized void add(Label label) {
+            labels.put(key(label.getName()), label);
+        }
+
+        synchronized List<Label> withPrefix(String prefix, int limit) {
+            return labels.withPrefix(prefix, limit);
+        }
+    }
+
+    private final LabelRepository labelRepository;
+    private final long ttlNanos;
+    private final int maxCachedUsers;
+    private final ConcurrentHashMap<Long, Dictionary> dictionaries = new ConcurrentHashMap<>();
+
+    public LabelService(
+            LabelRepository labelRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.labels.cache-ttl:10m}") Duration cacheTtl,
+            @Value("${app.labels.max-cached-users:10000}") int maxCachedUsers) {
+        this.labelRepository = labelRepository;
+        this.ttlNanos = cacheTtl.toNanos();
+        this.maxCachedUsers = maxCachedUsers;
+        Gauge.builder("zelvo.labels.cached-users", dictionaries, Map::size)
+                .description("Users whose label dictionary is held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the dictionary key of a label name (trimmed, lower-cased), or {@code null} for blank names
+     */
+    public static String key(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolves label names to the user's dictionary entries, adding the names the user has not used
+     * before. Blank names are skipped; names that differ only in case resolve to the same label.
+     *
+     * @param userId label owner
+     * @param names  label names as entered
+     * @return labels by {@link #key(String)}
+     */
+    @Transactional
+    public Map<String, Label> resolve(Long userId, Collection<String> names) {
+        // Key to name as first spelled
+        Map<String, String> wanted = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = key(name);
+            if (key == null) {
+                continue;
+            }
+            if (key.length() > MAX_NAME_LENGTH) {
+                throw new ValidationException("Labels must not be longer than " + MAX_NAME_LENGTH + " characters");
+            }
+            wanted.putIfAbsent(key, name.trim());
+        }
+        Map<String, Label> resolved = new HashMap<>();
+        if (wanted.isEmpty()) {
+            return resolved;
+        }
+        Dictionary dictionary = dictionary(userId);
+        List<String> missing = new ArrayList<>();
+        for (String key : wanted.keySet()) {
+            Label label = dictionary.get(key);
+            if (label != null) {
+                resolved.put(key, label);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (String key : missing) {
+                labelRepository.insertIfAbsent(userId, wanted.get(key));
+            }
+            List<Label> added = labelRepository.findByUserIdAndKeyIn(userId, missing);
+            added.forEach(label -> resolved.put(key(label.getName()), label));
+            // Rows inserted here must not be handed out before they are committed
+            afterCommit(() -> added.forEach(dictionary::add));
+        }
+        return resolved;
+    }
+
+    /**
+     * Looks up a label of the user by name, ignoring case.
+     *
+     * @param userId label owner
+     * @param name   label name
+     * @return the label, or empty if the user has none with this name
+     */
+    @Transactional(readOnly = true)
+    public Optional<Label> find(Long userId, String name) {
+        String key = key(name);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Dictionary dictionary = dictionary(userId);
+        Label label = dictionary.get(key);
+        if (label != null) {
+            return Optional.of(label);
+        }
+        // May have been added on another instance since the dictionary was loaded
+        List<Label> found = labelRepository.findByUserIdAndKeyIn(userId, List.of(key));
+        found.forEach(dictionary::add);
+        return found.stream().findFirst();
+    }
+
+    /**
+     * Autocompletes label names from the user's dictionary.
+     *
+     * @param userId label owner
+     * @param prefix typed prefix, matched ignoring case; blank lists all labels
+     * @param limit  maximum number of names, capped at {@link #MAX_SUGGESTIONS}
+     * @return matching label names in alphabetical order
+     */
+    @Transactional(readOnly = true)
+    public List<String> suggest(Long userId, String prefix, int limit) {
+        String key = prefix != null ? prefix.trim().toLowerCase(Locale.ROOT) : "";
+        int max = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        return dictionary(userId).withPrefix(key, max).stream()
+                .map(Label::getName)
+                .toList();
+    }
+
+    /**
+     * Drops expired dictionaries, bounding memory to the users active within the last TTL.
+     */
+    @Scheduled(fixedDelayString = "${app.labels.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        dictionaries.values().removeIf(dictionary -> now - dictionary.loadedAt >= ttlNanos);
+    }
+
+    private Dictionary dictionary(Long userId) {
+        Dictionary dictionary = dictionaries.get(userId);
+        if (dictionary != null && System.nanoTime() - dictionary.loadedAt < ttlNanos) {
+            return dictionary;
+        }
+        Dictionary loaded = new Dictionary();
+        labelRepository.findByUserId(userId).forEach(loaded::add);
+        if (dictionaries.size() >= maxCachedUsers) {
+            sweep();
+        }
+        // Still full: serve this request from the fresh copy without caching it
+        if (dictionaries.size() < maxCachedUsers || dictionaries.containsKey(userId)) {
+            dictionaries.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
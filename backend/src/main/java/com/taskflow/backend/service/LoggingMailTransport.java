@@ -0,0 +1,31 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.backend.model.QueuedMail;
+
+/**
+ * Development {@link MailTransport}: logs that a message would have been sent instead of sending it.
+ * The body is only logged at debug level because it carries one-time tokens.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mail.transport", havingValue = "log", matchIfMissing = true)
+public class LoggingMailTransport implements MailTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingMailTransport.class);
+
+    @Override
+    public Map<Long, String> send(List<QueuedMail> batch) {
+        for (QueuedMail mail : batch) {
+            logger.info("Mail to {}: {}", mail.getRecipient(), mail.getSubject());
+            logger.debug("Mail body:\n{}", mail.getBody());
+        }
+        return Map.of();
+    }
+}
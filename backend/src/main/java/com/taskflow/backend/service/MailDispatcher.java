@@ -0,0 +1,149 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.backend.model.QueuedMail;
+import com.taskflow.backend.repository.MailQueueRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Background sender for the Zelvo mail queue.
+ * <p>
+ * Each run claims due mail in batches (a short transaction with {@code FOR UPDATE SKIP LOCKED}, so
+ * several nodes can send concurrently), hands each batch to the {@link MailTransport} outside any
+ * transaction, then deletes what was sent. Failed messages are retried with exponential backoff and
+ * jitter, and marked failed after {@code app.mail.max-attempts}.
+ */
+@Service
+public class MailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailQueueRepository mailQueueRepository;
+    private final MailTransport transport;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter abandoned;
+    private final int batchSize;
+    private final int maxBatches;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public MailDispatcher(
+            MailQueueRepository mailQueueRepository,
+            MailTransport transport,
+            MeterRegistry meterRegistry,
+            @Value("${app.mail.batch-size:50}") int batchSize,
+            @Value("${app.mail.max-batches-per-run:20}") int maxBatches,
+            @Value("${app.mail.max-attempts:8}") int maxAttempts,
+            @Value("${app.mail.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.mail.max-backoff:1h}") Duration maxBackoff,
+            @Value("${app.mail.lease:5m}") Duration lease) {
+        this.mailQueueRepository = mailQueueRepository;
+        this.transport = transport;
+        this.sent = Counter.builder("zelvo.mail.sent")
+                .description("Queued e-mails handed to the mail transport")
+                .register(meterRegistry);
+        this.retried = Counter.builder("zelvo.mail.retried")
+                .description("E-mail delivery attempts that failed and were rescheduled")
+                .register(meterRegistry);
+        this.abandoned = Counter.builder("zelvo.mail.abandoned")
+                .description("E-mails given up on after exhausting their retries")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    /**
+     * Sends due mail batch by batch until none is left or the per-run cap is reached.
+     *
+     * @return number of e-mails sent in this run
+     */
+    @Scheduled(fixedDelayString = "${app.mail.poll-interval-ms:2000}")
+    public int dispatch() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<QueuedMail> claimed = mailQueueRepository.claimDue(now, now.plus(lease), batchSize);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            total += send(claimed);
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int send(List<QueuedMail> batch) {
+        Map<Long, String> failures = sendBatch(batch);
+
+        List<Long> delivered = batch.stream()
+                .map(QueuedMail::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        if (!delivered.isEmpty()) {
+            mailQueueRepository.deleteByIdIn(delivered);
+            sent.increment(delivered.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (QueuedMail mail : batch) {
+            String error = failures.get(mail.getId());
+            if (error == null) {
+                continue;
+            }
+            error = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            if (mail.getAttempts() >= maxAttempts) {
+                mailQueueRepository.markFailed(mail.getId(), now, error);
+                abandoned.increment();
+                logger.error("Giving up on mail {} to {} after {} attempts: {}",
+                        mail.getId(), mail.getRecipient(), mail.getAttempts(), error);
+            } else {
+                mailQueueRepository.reschedule(mail.getId(), now.plus(backoff(mail.getAttempts())), error);
+                retried.increment();
+            }
+        }
+        return delivered.size();
+    }
+
+    private Map<Long, String> sendBatch(List<QueuedMail> batch) {
+        try {
+            return transport.send(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Mail transport failed for a batch of {}: {}", batch.size(), e.getMessage());
+            return batch.stream().collect(Collectors.toMap(QueuedMail::getId, mail -> String.valueOf(e.getMessage())));
+        }
+    }
+
+    // Exponential in the number of attempts so far, capped, with up to 20% jitter so that a burst of
+    // failures does not retry in lockstep
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long millis = Math.min(initialBackoff.toMillis() << exponent, maxBackoff.toMillis());
+        long jitter = millis / 5 > 0 ? ThreadLocalRandom.current().nextLong(millis / 5) : 0;
+        return Duration.ofMillis(millis + jitter);
+    }
+}
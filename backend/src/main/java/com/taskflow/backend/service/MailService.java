@@ -0,0 +1,73 @@
+package com.taskflow.backend.service;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.model.QueuedMail;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.repository.MailQueueRepository;
+
+/**
+ * Composes Zelvo's transactional e-mails and puts them on the durable mail queue. Queuing is a single
+ * insert in the caller's transaction, so a mail exists exactly when the change that asked for it
+ * commits; {@link MailDispatcher} sends it in the background.
+ */
+@Service
+public class MailService {
+
+    private final MailQueueRepository mailQueueRepository;
+    private final String linkBaseUrl;
+
+    public MailService(
+            MailQueueRepository mailQueueRepository,
+            @Value("${app.mail.link-base-url:http://localhost:5173}") String linkBaseUrl) {
+        this.mailQueueRepository = mailQueueRepository;
+        this.linkBaseUrl = linkBaseUrl;
+    }
+
+    /**
+     * Queues the e-mail verification message.
+     *
+     * @param user  recipient
+     * @param token raw verification token
+     */
+    @Transactional
+    public void queueVerificationEmail(User user, String token) {
+        queue(user.getEmail(), "Verify your Zelvo e-mail address",
+                "Hi " + user.getName() + ",\n\n"
+                + "Confirm your e-mail address by opening this link:\n"
+                + link("/verify-email", token) + "\n\n"
+                + "If you did not create a Zelvo account, you can ignore this message.\n");
+    }
+
+    /**
+     * Queues the password reset message.
+     *
+     * @param user  recipient
+     * @param token raw reset token
+     */
+    @Transactional
+    public void queuePasswordResetEmail(User user, String token) {
+        queue(user.getEmail(), "Reset your Zelvo password",
+                "Hi " + user.getName() + ",\n\n"
+                + "Choose a new password by opening this link:\n"
+                + link("/reset-password", token) + "\n\n"
+                + "If you did not ask for a password reset, you can ignore this message.\n");
+    }
+
+    private String link(String path, String token) {
+        return linkBaseUrl + path + "?token=" + URLEncoder.encode(token, StandardCharsets.UTF_8);
+    }
+
+    private void queue(String recipient, String subject, String body) {
+        QueuedMail mail = new QueuedMail();
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mailQueueRepository.save(mail);
+    }
+}
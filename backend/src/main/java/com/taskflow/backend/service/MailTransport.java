@@ -0,0 +1,21 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.taskflow.backend.model.QueuedMail;
+
+/**
+ * Delivers a batch of mail for {@link MailDispatcher}. Selected with {@code app.mail.transport}:
+ * {@code log} (default, for development) or {@code smtp}. Tests plug in their own implementation.
+ */
+public interface MailTransport {
+
+    /**
+     * Sends a batch, ideally over a single connection.
+     *
+     * @param batch mail to send
+     * @return failure reason by mail id for every message that was not sent; empty if all were
+     */
+    Map<Long, String> send(List<QueuedMail> batch);
+}
@@ -0,0 +1,163 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.RefreshToken;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.repository.RefreshTokenRepository;
+import com.taskflow.backend.security.JwtTokenProvider;
+import com.taskflow.backend.security.RevokedTokenRegistry;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Manages persistent refresh-token families for Zelvo: issuance at login, rotation on refresh,
+ * reuse detection and revocation on logout.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtTokenProvider jwtTokenProvider,
+            RevokedTokenRegistry revokedTokenRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+    }
+
+    /**
+     * Result of a successful rotation.
+     *
+     * @param userId       owner of the token family
+     * @param email        subject of the rotated token
+     * @param familyId     family the new token belongs to
+     * @param refreshToken newly issued refresh token
+     */
+    public record Rotation(Long userId, String email, String familyId, String refreshToken) {}
+
+    /**
+     * Starts a new token family, one per login.
+     *
+     * @return new family id
+     */
+    public String newFamily() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Persists and signs a new refresh token in the given family.
+     *
+     * @param user     token owner
+     * @param familyId family id
+     * @return signed refresh token
+     */
+    @Transactional
+    public String issue(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+
+        RefreshToken record = new RefreshToken();
+        record.setTokenId(tokenId);
+        record.setFamilyId(familyId);
+        record.setUser(user);
+        record.setExpiresAt(LocalDateTime.now().plusNanos(jwtTokenProvider.getRefreshExpirationInMs() * 1_000_000L));
+        refreshTokenRepository.save(record);
+
+        return jwtTokenProvider.generateRefreshToken(user.getEmail(), tokenId, familyId);
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family. Presenting a token that was already
+     * rotated or revoked is treated as theft: the whole family is revoked and the call is rejected.
+     *
+     * @param refreshToken presented refresh token
+     * @return rotation result
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String refreshToken) {
+        Claims claims = jwtTokenProvider.parseClaims(refreshToken);
+        if (claims == null || !JwtTokenProvider.isRefreshToken(claims) || claims.getId() == null) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        RefreshToken current = refreshTokenRepository.findByTokenId(claims.getId())
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        if (current.getRevokedAt() != null) {
+            throw new UnauthorizedException("Refresh token has been revoked");
+        }
+        // Claimed with a conditional update rather than the state read above, so two concurrent refreshes
+        // with the same token cannot both succeed; the loser is treated as reuse
+        if (current.getRotatedAt() != null
+                || refreshTokenRepository.markRotated(current.getTokenId(), LocalDateTime.now()) == 0) {
+            logger.warn("Refresh token reuse detected for family {}; revoking family", current.getFamilyId());
+            revokeFamily(current.getFamilyId());
+            throw new UnauthorizedException("Refresh token has already been used");
+        }
+
+        User user = current.getUser();
+        String newToken = issue(user, current.getFamilyId());
+        return new Rotation(user.getId(), user.getEmail(), current.getFamilyId(), newToken);
+    }
+
+    /**
+     * Revokes the family of the given refresh token. Unknown or malformed tokens are ignored so that
+     * logout stays idempotent.
+     *
+     * @param refreshToken refresh token presented at logout
+     * @return id of the user the token belongs to, if it is known
+     */
+    @Transactional
+    public Optional<Long> revoke(String refreshToken) {
+        Claims claims = jwtTokenProvider.parseClaims(refreshToken);
+        if (claims == null || !JwtTokenProvider.isRefreshToken(claims)) {
+            return Optional.empty();
+        }
+        String familyId = claims.get(JwtTokenProvider.SESSION_CLAIM, String.class);
+        if (familyId != null) {
+            revokeFamily(familyId);
+        }
+        return claims.getId() == null ? Optional.empty()
+                : refreshTokenRepository.findByTokenId(claims.getId()).map(token -> token.getUser().getId());
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        // Publish to the in-memory filter only once the revocation is durable
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokedTokenRegistry.markRevoked(familyId);
+            }
+        });
+    }
+
+    /**
+     * Deletes refresh tokens that expired more than a day ago; they can no longer be presented.
+     */
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now().minusDays(1));
+        if (deleted > 0) {
+            logger.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fires due-date reminders for Zelvo tasks, {@code app.reminders.lead-time} before each task is due.
+ * <p>
+ * Pending reminders live in an in-memory {@link TimerWheel}. Only the next {@code app.reminders.window}
+ * of reminders is held: a periodic load reads the slice that has just come into range from a partial
+ * index, and {@link TaskService} keeps the wheel current as tasks are created, rescheduled, completed
+ * or deleted. Reminders that come due are claimed in batches with one statement per batch, which
+ * marks them sent, appends {@code task.due} events to the transactional outbox and pushes them to SSE
+ * subscribers on this instance. The claim re-checks the due date, so a stale timer never fires early,
+ * and when several instances run, only one of them sends each reminder.
+ */
+@Service
+public class ReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderService.class);
+
+    private static final int SLOTS_PER_LEVEL = 64;
+    private static final int LEVELS = 4;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    record Reminder(long taskId, LocalDateTime dueDate) {}
+
+    private final TaskRepository taskRepository;
+    private final TaskEventHub taskEventHub;
+    private final Counter fired;
+    private final boolean enabled;
+    private final boolean outboxEnabled;
+    private final Duration leadTime;
+    private final Duration window;
+    private final Duration catchUp;
+    private final int batchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // Guarded by this
+    private final TimerWheel<Reminder> wheel;
+    // Reminder times up to here have been loaded into the wheel; null until the first load
+    private LocalDateTime loadedUntil;
+
+    public ReminderService(
+            TaskRepository taskRepository,
+            TaskEventHub taskEventHub,
+            MeterRegistry meterRegistry,
+            @Value("${app.reminders.enabled:true}") boolean enabled,
+            @Value("${app.outbox.enabled:true}") boolean outboxEnabled,
+            @Value("${app.reminders.lead-time:1h}") Duration leadTime,
+            @Value("${app.reminders.window:15m}") Duration window,
+            @Value("${app.reminders.catch-up:1h}") Duration catchUp,
+            @Value("${app.reminders.batch-size:500}") int batchSize,
+            @Value("${app.reminders.tick-ms:1000}") long tickMs) {
+        this.taskRepository = taskRepository;
+        this.taskEventHub = taskEventHub;
+        this.enabled = enabled;
+        this.outboxEnabled = outboxEnabled;
+        this.leadTime = leadTime;
+        this.window = window;
+        this.catchUp = catchUp;
+        this.batchSize = batchSize;
+        this.wheel = new TimerWheel<>(tickMs, SLOTS_PER_LEVEL, LEVELS, System.currentTimeMillis());
+        if (window.toMillis() >= wheel.spanMillis()) {
+            throw new IllegalArgumentException("app.reminders.window must be shorter than " + Duration.ofMillis(wheel.spanMillis()));
+        }
+        this.fired = Counter.builder("zelvo.reminders.fired")
+                .description("Due-date reminders sent")
+                .register(meterRegistry);
+        Gauge.builder("zelvo.reminders.scheduled", this, ReminderService::scheduledCount)
+                .description("Reminders waiting in the timer wheel")
+                .register(meterRegistry);
+    }
+
+    synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Loads reminders that came into the window since the last load. Runs at startup, when reminders
+     * missed during the last {@code app.reminders.catch-up} are picked up as well, and then periodically.
+     *
+     * @return number of reminders scheduled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.reminders.load-interval-ms:60000}",
+            fixedDelayString = "${app.reminders.load-interval-ms:60000}")
+    public int loadWindow() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from;
+        synchronized (this) {
+            from = loadedUntil != null ? loadedUntil : now.minus(catchUp);
+        }
+        LocalDateTime to = now.plus(window);
+        if (!to.isAfter(from)) {
+            return 0;
+        }
+        // Reminder time = due date - lead time, so the window is shifted by the lead time in due-date terms
+        LocalDateTime fromDue = from.plus(leadTime);
+        LocalDateTime toDue = to.plus(leadTime);
+        LocalDateTime afterDue = fromDue;
+        long afterId = 0;
+        int loaded = 0;
+        List<Object[]> page;
+        do {
+            page = taskRepository.findReminderCandidates(fromDue, toDue, afterDue, afterId, PageRequest.of(0, batchSize));
+            synchronized (this) {
+                for (Object[] row : page) {
+                    long taskId = (Long) row[0];
+                    LocalDateTime dueDate = (LocalDateTime) row[1];
+                    // A timer set by a concurrent task change is newer than this read
+                    if (!wheel.contains(taskId) && wheel.schedule(taskId, reminderMillis(dueDate), new Reminder(taskId, dueDate))) {
+                        loaded++;
+                    }
+                }
+            }
+            if (!page.isEmpty()) {
+                Object[] last = page.get(page.size() - 1);
+                afterId = (Long) last[0];
+                afterDue = (LocalDateTime) last[1];
+            }
+        } while (page.size() == batchSize);
+        synchronized (this) {
+            loadedUntil = to;
+        }
+        return loaded;
+    }
+
+    /**
+     * Reschedules a task's reminder once the current transaction commits.
+     *
+     * @param taskId  task
+     * @param dueDate due date after the change; {@code null} cancels the reminder
+     * @param pending false for completed tasks, which get no reminder
+     */
+    public void taskChanged(Long taskId, LocalDateTime dueDate, boolean pending) {
+        if (!enabled || taskId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (this) {
+                if (dueDate == null || !pending || loadedUntil == null
+                        || dueDate.minus(leadTime).isAfter(loadedUntil)) {
+                    // Outside the loaded window, a later load picks it up
+                    wheel.cancel(taskId);
+                } else {
+                    wheel.schedule(taskId, reminderMillis(dueDate), new Reminder(taskId, dueDate));
+                }
+            }
+        });
+    }
+
+    /**
+     * Cancels the reminders of deleted tasks once the current transaction commits.
+     *
+     * @param taskIds deleted tasks
+     */
+    public void tasksRemoved(Collection<Long> taskIds) {
+        if (!enabled || taskIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(() -> {
+            synchronized (this) {
+                ids.forEach(wheel::cancel);
+            }
+        });
+    }
+
+    /**
+     * Advances the wheel and sends the reminders that came due, in batches.
+     *
+     * @return number of reminders sent by this instance
+     */
+    @Scheduled(fixedRateString = "${app.reminders.tick-ms:1000}")
+    public int tick() {
+        if (!enabled) {
+            return 0;
+        }
+        List<Reminder> due;
+        synchronized (this) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        int sent = 0;
+        for (int start = 0; start < due.size(); start += batchSize) {
+            sent += fire(due.subList(start, Math.min(start + batchSize, due.size())));
+        }
+        return sent;
+    }
+
+    private int fire(List<Reminder> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = batch.stream().map(Reminder::taskId).toList();
+        List<Object[]> claimed;
+        try {
+            claimed = taskRepository.claimDueReminders(ids, now.plus(leadTime), now, outboxEnabled);
+        } catch (DataAccessException e) {
+            logger.warn("Could not send {} reminders, retrying in {}: {}", batch.size(), RETRY_DELAY, e.getMessage());
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+            synchronized (this) {
+                for (Reminder reminder : batch) {
+                    if (!wheel.contains(reminder.taskId())) {
+                        wheel.schedule(reminder.taskId(), retryAt, reminder);
+                    }
+                }
+            }
+            return 0;
+        }
+        fired.increment(claimed.size());
+        if (taskEventHub.hasSubscribers()) {
+            for (Object[] row : claimed) {
+                List<Long> recipients = new ArrayList<>(2);
+                recipients.add((Long) row[1]);
+                recipients.add((Long) row[2]);
+                taskEventHub.publishAfterCommit(TaskEventHub.DUE, (Long) row[0], null, recipients);
+            }
+        }
+        return claimed.size();
+    }
+
+    private long reminderMillis(LocalDateTime dueDate) {
+        return dueDate.minus(leadTime).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
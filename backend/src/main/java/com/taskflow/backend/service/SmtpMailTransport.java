@@ -0,0 +1,78 @@
+package com.taskflow.backend.service;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.backend.model.QueuedMail;
+
+/**
+ * {@link MailTransport} over SMTP, configured with the standard {@code spring.mail.*} properties.
+ * A batch is sent in one {@link JavaMailSender#send(SimpleMailMessage...)} call, which reuses a single
+ * connection for all of its messages.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mail.transport", havingValue = "smtp")
+public class SmtpMailTransport implements MailTransport {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpMailTransport(JavaMailSender mailSender, @Value("${app.mail.from:no-reply@zelvo.app}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public Map<Long, String> send(List<QueuedMail> batch) {
+        Map<SimpleMailMessage, Long> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            QueuedMail mail = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(from);
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            messages[i] = message;
+            ids.put(message, mail.getId());
+        }
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                return allFailed(batch, e);
+            }
+            Map<Long, String> failures = new HashMap<>();
+            failedMessages.forEach((message, cause) -> {
+                Long id = ids.get(message);
+                if (id != null) {
+                    failures.put(id, String.valueOf(cause.getMessage()));
+                }
+            });
+            return failures;
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing was sent
+            return allFailed(batch, e);
+        }
+    }
+
+    private static Map<Long, String> allFailed(List<QueuedMail> batch, Exception cause) {
+        Map<Long, String> failures = new HashMap<>();
+        for (QueuedMail mail : batch) {
+            failures.put(mail.getId(), String.valueOf(cause.getMessage()));
+        }
+        return failures;
+    }
+}
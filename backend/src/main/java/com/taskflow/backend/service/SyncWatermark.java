@@ -0,0 +1,61 @@
+package com.taskflow.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+import com.taskflow.backend.exception.ValidationException;
+
+/**
+ * Position in a user's task change stream: the {@code (updated_at, id)} key of the last change a client
+ * has seen. Handed to clients as an opaque, URL-safe token.
+ *
+ * @param updatedAt change timestamp (microsecond precision, as stored)
+ * @param id        task id, breaking ties between changes with the same timestamp
+ */
+public record SyncWatermark(LocalDateTime updatedAt, long id) {
+
+    private static final String VERSION = "1";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** Position before the first change; used when a client syncs for the first time. */
+    public static final SyncWatermark INITIAL = new SyncWatermark(EPOCH, 0);
+
+    public boolean isInitial() {
+        return equals(INITIAL);
+    }
+
+    /**
+     * @return opaque token for this position
+     */
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(EPOCH, updatedAt);
+        String raw = VERSION + "." + micros + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token client-supplied token; {@code null} or blank means {@link #INITIAL}
+     * @return decoded position
+     * @throws ValidationException if the token is malformed
+     */
+    public static SyncWatermark parse(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split("\\.");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new ValidationException("Invalid sync token");
+            }
+            LocalDateTime updatedAt = EPOCH.plus(Long.parseLong(parts[1]), ChronoUnit.MICROS);
+            return new SyncWatermark(updatedAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid sync token");
+        }
+    }
+}
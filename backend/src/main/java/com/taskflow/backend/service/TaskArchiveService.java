@@ -0,0 +1,95 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.backend.repository.ArchivedTaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Background archiver for Zelvo: moves tasks completed more than {@code app.tasks.archive.after-days}
+ * ago from {@code tasks} into {@code tasks_archive}, so the indexes behind the active listings only
+ * cover the working set.
+ * <p>
+ * Each batch is a single statement in its own short transaction. Rows locked by concurrent requests
+ * are skipped, so several nodes can run the archiver at the same time.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final Counter archived;
+    private final boolean enabled;
+    private final int afterDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+
+    public TaskArchiveService(
+            ArchivedTaskRepository archivedTaskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.tasks.archive.enabled:true}") boolean enabled,
+            @Value("${app.tasks.archive.after-days:90}") int afterDays,
+            @Value("${app.tasks.archive.batch-size:500}") int batchSize,
+            @Value("${app.tasks.archive.max-batches-per-run:1000}") int maxBatches,
+            @Value("${app.tasks.archive.pause-ms:100}") long pauseMs) {
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archived = Counter.builder("zelvo.tasks.archived")
+                .description("Completed tasks moved to the archive")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+    }
+
+    /**
+     * Archives eligible tasks batch by batch until none are left or the per-run cap is reached,
+     * pausing between batches to leave room for foreground traffic.
+     *
+     * @return number of tasks archived in this run
+     */
+    @Scheduled(cron = "${app.tasks.archive.cron:0 0 4 * * *}")
+    public int archiveCompletedTasks() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int moved = archivedTaskRepository.archiveCompletedBefore(cutoff, LocalDateTime.now(), batchSize);
+            total += moved;
+            archived.increment(moved);
+            if (moved < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.taskflow.backend.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.dto.TaskEventDTO;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-process fan-out of task changes to Server-Sent Events subscribers in Zelvo.
+ * <p>
+ * Idle connections cost only an {@link SseEmitter} and a small queue: nothing blocks while a client
+ * waits. A published event is serialized once, appended to each recipient's bounded buffer, and written
+ * by a drain task on the application task executor, one task per subscriber with pending events.
+ * A subscriber whose buffer overflows is disconnected rather than slowing down the publisher or other
+ * subscribers; clients catch up through {@code GET /api/v1/tasks/changes} after reconnecting.
+ * <p>
+ * Events only reach subscribers connected to this instance.
+ */
+@Service
+public class TaskEventHub {
+
+    public static final String CREATED = "task.created";
+    public static final String UPDATED = "task.updated";
+    public static final String DELETED = "task.deleted";
+    public static final String DUE = "task.due";
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventHub.class);
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final Counter published;
+    private final Counter droppedSlow;
+
+    public TaskEventHub(
+            ObjectMapper objectMapper,
+            @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${app.tasks.events.buffer-size:256}") int bufferSize,
+            @Value("${app.tasks.events.max-per-user:5}") int maxPerUser,
+            @Value("${app.tasks.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.tasks.events.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeout.toMillis();
+        Gauge.builder("zelvo.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.published = Counter.builder("zelvo.events.published")
+                .description("Task events handed to subscriber buffers")
+                .register(meterRegistry);
+        this.droppedSlow = Counter.builder("zelvo.events.dropped")
+                .description("Subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens an event stream for a user.
+     *
+     * @param userId subscribing user
+     * @return emitter to return from the controller
+     * @throws ServiceUnavailableException if the user or the instance is at its connection limit
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open event streams");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        // Check and add atomically with respect to close(), which removes empty sets
+        Set<Subscriber> own = subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> set = current != null ? current : new CopyOnWriteArraySet<>();
+            if (set.size() < maxPerUser) {
+                set.add(subscriber);
+            }
+            return set;
+        });
+        if (!own.contains(subscriber)) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open event streams for this user");
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.offer(SseEmitter.event().comment("connected").reconnectTime(3000).build());
+        return emitter;
+    }
+
+    /**
+     * Publishes a task event once the current transaction commits, or immediately if none is active.
+     *
+     * @param type       event type constant
+     * @param taskId     affected task
+     * @param task       task state after the change, or {@code null} for deletions
+     * @param recipients user ids to notify (owner, assignees); {@code null} entries are ignored
+     */
+    public void publishAfterCommit(String type, Long taskId, TaskResponseDTO task, Collection<Long> recipients) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<Long> targets = new LinkedHashSet<>(recipients);
+        targets.remove(null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(type, taskId, task, targets);
+                }
+            });
+        } else {
+            publish(type, taskId, task, targets);
+        }
+    }
+
+    /**
+     * @return whether anyone is connected to this instance; lets callers skip work needed only for events
+     */
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    void publish(String type, Long taskId, TaskResponseDTO task, Collection<Long> recipients) {
+        Set<ResponseBodyEmitter.DataWithMediaType> event = null;
+        for (Long userId : recipients) {
+            Set<Subscriber> own = subscribers.get(userId);
+            if (own == null || own.isEmpty()) {
+                continue;
+            }
+            if (event == null) {
+                // Serialized once, shared by every recipient
+                event = encode(type, taskId, task);
+                if (event == null) {
+                    return;
+                }
+            }
+            for (Subscriber subscriber : own) {
+                subscriber.offer(event);
+                published.increment();
+            }
+        }
+    }
+
+    /**
+     * Sends a comment to every stream so that proxies keep idle connections open and dead clients are
+     * noticed and released.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(own -> own.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> encode(String type, Long taskId, TaskResponseDTO task) {
+        try {
+            String json = objectMapper.writeValueAsString(new TaskEventDTO(type, taskId, task));
+            return Set.copyOf(SseEmitter.event()
+                    .id(Long.toString(sequence.incrementAndGet()))
+                    .name(type)
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build());
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize {} event for task {}", type, taskId, e);
+            return null;
+        }
+    }
+
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                droppedSlow.increment();
+                logger.debug("Dropping slow task event subscriber for user {}", userId);
+                close();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        // Runs on the executor; at most one drain per subscriber at a time
+        private void drain() {
+            while (true) {
+                Set<ResponseBodyEmitter.DataWithMediaType> event = buffer.poll();
+                if (event == null) {
+                    draining.set(false);
+                    // An offer may have raced with the reset above
+                    if (buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscriberCount.decrementAndGet();
+                subscribers.computeIfPresent(userId, (id, own) -> {
+                    own.remove(this);
+                    return own.isEmpty() ? null : own;
+                });
+                buffer.clear();
+            }
+        }
+    }
+}
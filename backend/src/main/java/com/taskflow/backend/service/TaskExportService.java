@@ -0,0 +1,76 @@
+package com.taskflow.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.taskflow.backend.config.FieldSelectionAdvice;
+
+/**
+ * Writes a user's complete task list as JSON incrementally, so time-to-first-byte and heap usage
+ * stay flat no matter how many tasks the user has.
+ * <p>
+ * The output has the same envelope as other Zelvo endpoints:
+ * {@code {"status":"success","data":[...]}}.
+ */
+@Service
+public class TaskExportService {
+
+    // Flush periodically so clients start receiving rows before the cursor is exhausted
+    private static final int FLUSH_EVERY = 100;
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportService(TaskService taskService, ObjectMapper objectMapper) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Prepares a streaming export of the authenticated user's tasks. The user is resolved now, on the
+     * request thread; the body itself is written later on an MVC async thread.
+     *
+     * @param fields optional comma-separated field selection, as for {@code GET /api/v1/tasks}
+     * @return response body that streams the tasks
+     */
+    public StreamingResponseBody exportCurrentUserTasks(String fields) {
+        Long userId = taskService.getCurrentUserId();
+        FilterProvider filters = FieldSelectionAdvice.filtersFor(fields);
+        ObjectWriter rowWriter = (filters != null ? objectMapper.writer(filters) : objectMapper.writer())
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeStringField("status", "success");
+                generator.writeArrayFieldStart("data");
+
+                int[] written = {0};
+                taskService.streamUserTasks(userId, task -> {
+                    try {
+                        rowWriter.writeValue(generator, task);
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+
+import com.taskflow.backend.model.TaskOutboxEvent;
+
+/**
+ * Downstream consumer of task domain events (search indexing, notifications, analytics), fed by
+ * {@link TaskOutboxRelay}. Register an implementation as a Spring bean to receive events.
+ * <p>
+ * Delivery is at least once: a batch is redelivered if the handler, or the relay's commit, fails.
+ * Events of the same task arrive in the order they were committed; handlers should skip ids they
+ * have already processed.
+ */
+public interface TaskOutboxHandler {
+
+    /**
+     * Processes a batch of events in id order. Throwing leaves the whole batch in the outbox for a
+     * later attempt.
+     *
+     * @param events events to process
+     */
+    void handle(List<TaskOutboxEvent> events);
+}
@@ -0,0 +1,120 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.model.TaskOutboxEvent;
+import com.taskflow.backend.repository.TaskOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Delivers Zelvo task domain events from the transactional outbox to every {@link TaskOutboxHandler}.
+ * <p>
+ * Events are split into shards by owner. For each shard, one transaction takes the shard's advisory
+ * lock, claims the oldest batch with {@code FOR UPDATE SKIP LOCKED}, hands it to the handlers and
+ * deletes it. Nodes that lose the lock move on to other shards, so several nodes share the work while
+ * each shard is still delivered in order. A failing handler rolls the batch back and stops that shard
+ * until the next run; nothing is lost.
+ */
+@Service
+public class TaskOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOutboxRelay.class);
+
+    // Advisory lock keys are shared database-wide; keep the relay's in a range of its own
+    static final long LOCK_KEY_BASE = 0x7A656C766F0000L;
+
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final List<TaskOutboxHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayed;
+    private final Counter failed;
+    private final boolean enabled;
+    private final int shards;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public TaskOutboxRelay(
+            TaskOutboxRepository taskOutboxRepository,
+            List<TaskOutboxHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.enabled:true}") boolean enabled,
+            @Value("${app.outbox.shards:4}") int shards,
+            @Value("${app.outbox.batch-size:500}") int batchSize,
+            @Value("${app.outbox.max-batches-per-run:100}") int maxBatches) {
+        this.taskOutboxRepository = taskOutboxRepository;
+        this.handlers = List.copyOf(handlers);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayed = Counter.builder("zelvo.outbox.relayed")
+                .description("Task events delivered from the outbox")
+                .register(meterRegistry);
+        this.failed = Counter.builder("zelvo.outbox.failures")
+                .description("Outbox batches rolled back because a handler failed")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.shards = shards;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * Drains every shard this node can lock, batch by batch, up to the per-run cap.
+     *
+     * @return number of events delivered in this run
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public int relay() {
+        if (!enabled) {
+            return 0;
+        }
+        int total = 0;
+        int batches = 0;
+        for (int shard = 0; shard < shards && batches < maxBatches; shard++) {
+            int delivered;
+            do {
+                delivered = relayBatch(shard);
+                total += Math.max(delivered, 0);
+                batches++;
+            } while (delivered == batchSize && batches < maxBatches);
+        }
+        return total;
+    }
+
+    // Number of events delivered, or -1 if another node holds the shard or a handler failed
+    private int relayBatch(int shard) {
+        try {
+            Integer delivered = transactionTemplate.execute(status -> {
+                if (!taskOutboxRepository.tryLockShard(LOCK_KEY_BASE + shard)) {
+                    return -1;
+                }
+                List<TaskOutboxEvent> batch = taskOutboxRepository.claimBatch(shards, shard, batchSize);
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+                for (TaskOutboxHandler handler : handlers) {
+                    handler.handle(batch);
+                }
+                taskOutboxRepository.deleteByIdIn(batch.stream().map(TaskOutboxEvent::getId).toList());
+                return batch.size();
+            });
+            if (delivered != null && delivered > 0) {
+                relayed.increment(delivered);
+            }
+            return delivered != null ? delivered : 0;
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn("Outbox shard {} delivery failed, will retry: {}", shard, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.backend.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Physically removes soft-deleted Zelvo tasks once their undo grace period has passed.
+ * <p>
+ * Runs only inside the off-peak window given by {@code app.tasks.purge.cron}, deletes in small batches
+ * with a pause in between, and stops when a run exceeds {@code app.tasks.purge.max-run-time}, so the
+ * index maintenance and cascades that used to sit on the request path are spread thinly over quiet hours.
+ */
+@Service
+public class TaskPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPurgeService.class);
+
+    private final TaskRepository taskRepository;
+    private final Counter purged;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final long pauseMs;
+    private final Duration maxRunTime;
+
+    public TaskPurgeService(
+            TaskRepository taskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.tasks.purge.grace-period:7d}") Duration gracePeriod,
+            @Value("${app.tasks.purge.batch-size:200}") int batchSize,
+            @Value("${app.tasks.purge.pause-ms:250}") long pauseMs,
+            @Value("${app.tasks.purge.max-run-time:10m}") Duration maxRunTime) {
+        this.taskRepository = taskRepository;
+        this.purged = Counter.builder("zelvo.tasks.purged")
+                .description("Soft-deleted tasks physically removed")
+                .register(meterRegistry);
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxRunTime = maxRunTime;
+    }
+
+    /**
+     * Purges tombstones older than the grace period until none are left or the run-time budget is spent.
+     *
+     * @return number of tasks purged in this run
+     */
+    @Scheduled(cron = "${app.tasks.purge.cron:0 */15 1-5 * * *}")
+    public int purgeDeletedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        int total = 0;
+        while (true) {
+            int deleted = taskRepository.purgeDeletedBefore(cutoff, batchSize);
+            total += deleted;
+            purged.increment(deleted);
+            if (deleted < batchSize || System.nanoTime() - deadline >= 0 || !pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Purged {} tasks deleted before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
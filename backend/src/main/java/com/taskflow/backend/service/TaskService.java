@@ -1,26 +1,54 @@
 package com.taskflow.backend.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.taskflow.backend.config.StageMetrics;
+import com.taskflow.backend.dto.TaskChangesDTO;
 import com.taskflow.backend.dto.TaskRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
 import com.taskflow.backend.exception.ResourceNotFoundException;
 import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.exception.ValidationException;
 import com.taskflow.backend.mapper.TaskMapper;
 import com.taskflow.backend.model.Category;
+import com.taskflow.backend.model.Label;
 import com.taskflow.backend.model.Task;
 import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserActivity;
+import com.taskflow.backend.repository.ArchivedTaskRepository;
 import com.taskflow.backend.repository.CategoryRepository;
+import com.taskflow.backend.repository.TaskOutboxRepository;
 import com.taskflow.backend.repository.TaskRepository;
 import com.taskflow.backend.repository.UserRepository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 /**
  * Service containing business logic for creating, updating, querying and deleting tasks
  * while enforcing ownership & authorization rules for Zelvo users.
@@ -28,18 +56,63 @@ import com.taskflow.backend.repository.UserRepository;
 @Service
 public class TaskService {
 
+    /** Upper bound for a single page; larger reads go through {@link #streamUserTasks}. */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /** Workspace id that makes a task personal again; null in an update keeps the current workspace. */
+    public static final long PERSONAL = 0L;
+
+    // Entities are detached in chunks while streaming so the persistence context stays small
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final TaskMapper taskMapper;
+    private final StageMetrics stageMetrics;
+    private final TaskEventHub taskEventHub;
+    private final ActivityRecorder activityRecorder;
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final ReminderService reminderService;
+    private final LabelService labelService;
+    private final TypeaheadService typeaheadService;
+    private final WorkspaceService workspaceService;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository, CategoryRepository categoryRepository, TaskMapper taskMapper) {
+    public TaskService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository, UserRepository userRepository, CategoryRepository categoryRepository, TaskMapper taskMapper, StageMetrics stageMetrics, TaskEventHub taskEventHub, ActivityRecorder activityRecorder, TaskOutboxRepository taskOutboxRepository, ReminderService reminderService, LabelService labelService, TypeaheadService typeaheadService, WorkspaceService workspaceService) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
         this.taskMapper = taskMapper;
+        this.stageMetrics = stageMetrics;
+        this.taskEventHub = taskEventHub;
+        this.activityRecorder = activityRecorder;
+        this.taskOutboxRepository = taskOutboxRepository;
+        this.reminderService = reminderService;
+        this.labelService = labelService;
+        this.typeaheadService = typeaheadService;
+        this.workspaceService = workspaceService;
     }
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Changes younger than this are held back so that transactions still in flight (and clock skew
+    // between nodes) cannot commit behind a watermark that was already handed out
+    @Value("${app.tasks.sync.settle-window:2s}")
+    private Duration syncSettleWindow = Duration.ofSeconds(2);
+
+    @Value("${app.tasks.sync.max-changes:500}")
+    private int syncMaxChanges = 500;
+
+    // Tombstones older than this may already be purged, so older watermarks cannot see every deletion
+    @Value("${app.tasks.purge.grace-period:7d}")
+    private Duration tombstoneRetention = Duration.ofDays(7);
+
+    @Value("${app.outbox.enabled:true}")
+    private boolean outboxEnabled = true;
+
     // Get the currently authenticated user from security context
     private String getAuthenticatedUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -51,29 +124,308 @@ public class TaskService {
         return null;
     }
 
+    // Loads the authenticated user entity, timed as the user-lookup stage
+    private User getCurrentUser() {
+        String email = getAuthenticatedUser();
+        return stageMetrics.record(StageMetrics.USER_LOOKUP, () -> userRepository.findByEmail(email))
+                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
+    }
+
+    // Looks the task up within the owner's partition; someone else's task is reported as not found
+    private Task findTask(Long id, User owner) {
+        return stageMetrics.record(StageMetrics.TASK_QUERY, () -> taskRepository.findByIdAndUserId(id, owner.getId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    // Workspace a write leaves a task in, the same rule for single and bulk writes: null keeps the
+    // current one (none for new tasks), PERSONAL takes the task out of its workspace, and any other id
+    // must be a workspace the owner belongs to
+    private Long workspaceFor(User owner, Long requested, Long current) {
+        if (requested == null) {
+            return current;
+        }
+        if (requested == PERSONAL) {
+            return null;
+        }
+        workspaceService.requireMember(requested, owner.getId());
+        return requested;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // Global categories fit any task; a workspace's categories only fit that workspace's tasks, and are
+    // reported as missing to everyone else
+    private Category categoryFor(Long categoryId, Long workspaceId) {
+        return categoryRepository.findById(categoryId)
+                .filter(category -> category.getWorkspaceId() == null || category.getWorkspaceId().equals(workspaceId))
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
+    }
+
+    private TaskResponseDTO toResponse(Task task) {
+        return stageMetrics.record(StageMetrics.TASK_MAPPING, () -> taskMapper.toResponse(task));
+    }
+
+    // Users who receive events about a task: its owner and (current or former) assignees
+    private static List<Long> recipients(Long ownerId, Long... assigneeIds) {
+        List<Long> recipients = new ArrayList<>(assigneeIds.length + 1);
+        recipients.add(ownerId);
+        recipients.addAll(Arrays.asList(assigneeIds));
+        return recipients;
+    }
+
+    private static Long assigneeId(Task task) {
+        return task.getAssignee() != null ? task.getAssignee().getId() : null;
+    }
+
+    // Events for tasks deleted without loading them; assignees are looked up only if anyone listens
+    private void publishDeleted(Long ownerId, List<Long> taskIds) {
+        if (!taskEventHub.hasSubscribers()) {
+            return;
+        }
+        for (Object[] row : taskRepository.findAssigneeIds(ownerId, taskIds)) {
+            Long taskId = (Long) row[0];
+            taskEventHub.publishAfterCommit(TaskEventHub.DELETED, taskId, null, recipients(ownerId, (Long) row[1]));
+        }
+    }
+
+    // Appends outbox events in the current transaction. Deletions must be appended before the tombstoning
+    // update, since the append skips deleted tasks; everything else after the change, which is flushed
+    // first so that the task row is locked before the event id is drawn
+    private void appendOutbox(String type, Long ownerId, List<Long> taskIds) {
+        if (!outboxEnabled || taskIds.isEmpty()) {
+            return;
+        }
+        taskRepository.flush();
+        stageMetrics.record(StageMetrics.TASK_WRITE,
+                () -> taskOutboxRepository.appendForTasks(type, ownerId, taskIds, LocalDateTime.now()));
+    }
+
     /**
-     * Returns a paginated list of tasks belonging to the authenticated user.
+     * Returns a paginated list of tasks belonging to the authenticated user. Archived tasks are only
+     * included when {@link com.taskflow.backend.dto.PageRequest#isIncludeArchived()} is set;
+     * {@link com.taskflow.backend.dto.PageRequest#getLabel()} restricts the list to tasks with that label.
+     * Only the orders in {@link TaskSort} are accepted; without a sort key the newest tasks come first.
      *
      * @param pageRequest pagination & filter information
      * @return mapped {@link TaskResponseDTO} page
+     * @throws ValidationException for an unsupported sort key or direction, or for search or filter
+     *                             combined with a label or archived tasks
      */
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getUserTasks(com.taskflow.backend.dto.PageRequest pageRequest) {
-        Sort.Direction direction = Sort.Direction.fromString(pageRequest.getDirection().toUpperCase());
-        Sort sort = pageRequest.getSort() != null ? 
-            Sort.by(direction, pageRequest.getSort()) : 
-            Sort.by(Sort.Direction.DESC, "createdAt");
+        TaskSort sort = TaskSort.requested(pageRequest.getSort());
+        boolean ascending = TaskSort.ascendingRequested(pageRequest.getSort(), pageRequest.getDirection());
+        // The label and archive listings are dedicated native queries with no search or filter
+        // predicates; rejecting the combination beats answering with an unfiltered page
+        if ((pageRequest.getLabel() != null || pageRequest.isIncludeArchived())
+                && (hasText(pageRequest.getSearch()) || hasText(pageRequest.getFilter()))) {
+            throw new ValidationException("search and filter cannot be combined with label or includeArchived");
+        }
 
+        int size = Math.min(Math.max(pageRequest.getSize(), 1), MAX_PAGE_SIZE);
         org.springframework.data.domain.PageRequest springPageRequest = 
-            org.springframework.data.domain.PageRequest.of(pageRequest.getPage(), pageRequest.getSize(), sort);
+            org.springframework.data.domain.PageRequest.of(pageRequest.getPage(), size, sort.sort(ascending));
 
         // Get the current authenticated user
-        String email = getAuthenticatedUser();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
+        User currentUser = getCurrentUser();
+
+        if (pageRequest.getLabel() != null) {
+            if (pageRequest.isIncludeArchived()) {
+                throw new ValidationException("Archived tasks cannot be filtered by label");
+            }
+            return getTasksWithLabel(currentUser, pageRequest.getLabel(), sort, ascending, springPageRequest);
+        }
+        if (pageRequest.isIncludeArchived()) {
+            return getTasksIncludingArchived(currentUser, sort, ascending, springPageRequest);
+        }
         
         // Find tasks only for the current user
-        Page<Task> tasks = taskRepository.findByUser(currentUser, springPageRequest);
-        return tasks.map(taskMapper::toResponse);
+        Page<Task> tasks = stageMetrics.record(StageMetrics.TASK_QUERY,
+                () -> taskRepository.findByUser(currentUser, springPageRequest));
+        return stageMetrics.record(StageMetrics.TASK_MAPPING, () -> tasks.map(taskMapper::toResponse));
+    }
+
+    /**
+     * Returns a page of a workspace's tasks, whoever owns them, for members of the workspace. One query
+     * over the workspace's indexes replaces a listing per member. Accepts the {@link TaskSort} orders.
+     *
+     * @param workspaceId workspace id
+     * @param pageRequest pagination & sort information
+     * @return mapped {@link TaskResponseDTO} page
+     * @throws ResourceNotFoundException if the caller is not a member
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getWorkspaceTasks(Long workspaceId, com.taskflow.backend.dto.PageRequest pageRequest) {
+        TaskSort sort = TaskSort.requested(pageRequest.getSort());
+        boolean ascending = TaskSort.ascendingRequested(pageRequest.getSort(), pageRequest.getDirection());
+        int size = Math.min(Math.max(pageRequest.getSize(), 1), MAX_PAGE_SIZE);
+        org.springframework.data.domain.PageRequest springPageRequest =
+            org.springframework.data.domain.PageRequest.of(pageRequest.getPage(), size, sort.sort(ascending));
+
+        workspaceService.requireMember(workspaceId, getCurrentUser().getId());
+        Page<Task> tasks = stageMetrics.record(StageMetrics.TASK_QUERY,
+                () -> taskRepository.findByWorkspaceId(workspaceId, springPageRequest));
+        return stageMetrics.record(StageMetrics.TASK_MAPPING, () -> tasks.map(taskMapper::toResponse));
+    }
+
+    // Orders ids from both tables in one UNION ALL query, then loads just that page from each table
+    private Page<TaskResponseDTO> getTasksIncludingArchived(User user, TaskSort sort, boolean ascending, Pageable pageable) {
+        String column = sort.column();
+        String direction = ascending ? "ASC" : "DESC";
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = stageMetrics.record(StageMetrics.TASK_QUERY, () -> entityManager.createNativeQuery(
+                "SELECT id, archived FROM ("
+                        + "SELECT id, " + column + " AS sort_key, FALSE AS archived FROM tasks WHERE user_id = :userId AND deleted_at IS NULL "
+                        + "UNION ALL "
+                        + "SELECT id, " + column + ", TRUE FROM tasks_archive WHERE user_id = :userId"
+                        + ") u ORDER BY sort_key " + direction + ", id " + direction)
+                .setParameter("userId", user.getId())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList());
+
+        List<Long> activeIds = new ArrayList<>();
+        List<Long> archivedIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            (Boolean.TRUE.equals(row[1]) ? archivedIds : activeIds).add(id);
+        }
+
+        // Ids come from one sequence, so a single map serves both tables
+        Map<Long, TaskResponseDTO> byId = new HashMap<>();
+        stageMetrics.record(StageMetrics.TASK_QUERY, () -> {
+            if (!activeIds.isEmpty()) {
+                taskRepository.findByUserIdAndIdIn(user.getId(), activeIds)
+                        .forEach(task -> byId.put(task.getId(), taskMapper.toResponse(task)));
+            }
+            if (!archivedIds.isEmpty()) {
+                archivedTaskRepository.findByUserIdAndIdIn(user.getId(), archivedIds)
+                        .forEach(task -> byId.put(task.getId(), taskMapper.toResponse(task)));
+            }
+        });
+        List<TaskResponseDTO> content = rows.stream()
+                .map(row -> byId.get(((Number) row[0]).longValue()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        long total = taskRepository.countByUserId(user.getId()) + archivedTaskRepository.countByUserId(user.getId());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // Orders the ids linked to the label (the link table's primary key leads with user and label), then
+    // loads just that page
+    private Page<TaskResponseDTO> getTasksWithLabel(User user, String name, TaskSort sort, boolean ascending,
+            Pageable pageable) {
+        Optional<Label> label = labelService.find(user.getId(), name);
+        if (label.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Integer labelId = label.get().getId();
+        String direction = ascending ? "ASC" : "DESC";
+
+        @SuppressWarnings("unchecked")
+        List<Number> ids = stageMetrics.record(StageMetrics.TASK_QUERY, () -> entityManager.createNativeQuery(
+                "SELECT t.id FROM task_label_links l JOIN tasks t ON t.user_id = l.user_id AND t.id = l.task_id "
+                        + "WHERE l.user_id = :userId AND l.label_id = :labelId AND t.deleted_at IS NULL "
+                        + "ORDER BY t." + sort.column() + " " + direction + ", t.id " + direction)
+                .setParameter("userId", user.getId())
+                .setParameter("labelId", labelId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList());
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, taskRepository.countByUserIdAndLabelId(user.getId(), labelId));
+        }
+
+        List<Long> pageIds = ids.stream().map(Number::longValue).toList();
+        Map<Long, TaskResponseDTO> byId = new HashMap<>();
+        stageMetrics.record(StageMetrics.TASK_QUERY, () -> taskRepository.findByUserIdAndIdIn(user.getId(), pageIds)
+                .forEach(task -> byId.put(task.getId(), taskMapper.toResponse(task))));
+        List<TaskResponseDTO> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, taskRepository.countByUserIdAndLabelId(user.getId(), labelId));
+    }
+
+    /**
+     * Returns the authenticated user's task changes after a sync watermark: created and updated tasks,
+     * plus ids of deleted and archived ones. Pages of at most {@code app.tasks.sync.max-changes}.
+     *
+     * @param since token from a previous call, or {@code null} for a first sync
+     * @return changes and the next watermark
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getTaskChanges(String since) {
+        SyncWatermark from = SyncWatermark.parse(since);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (!from.isInitial() && from.updatedAt().isBefore(now.minus(tombstoneRetention))) {
+            return new TaskChangesDTO(List.of(), List.of(), List.of(), null, false, true);
+        }
+
+        User currentUser = getCurrentUser();
+        LocalDateTime horizon = now.minus(syncSettleWindow);
+        List<Task> rows = stageMetrics.record(StageMetrics.TASK_QUERY, () -> taskRepository.findChangedSince(
+                currentUser.getId(), from.updatedAt(), from.id(), horizon, syncMaxChanges));
+
+        boolean hasMore = rows.size() == syncMaxChanges;
+        // A full page ends at its last row; otherwise everything up to the horizon has been seen
+        SyncWatermark to = hasMore
+                ? new SyncWatermark(rows.get(rows.size() - 1).getUpdatedAt(), rows.get(rows.size() - 1).getId())
+                : new SyncWatermark(horizon, Long.MAX_VALUE);
+
+        List<TaskResponseDTO> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (Task task : rows) {
+            if (task.getDeletedAt() == null) {
+                changed.add(taskMapper.toResponse(task));
+            } else if (!from.isInitial()) {
+                deleted.add(task.getId());
+            }
+        }
+        // A first sync has nothing to remove locally
+        List<Long> archived = from.isInitial() ? List.of()
+                : archivedTaskRepository.findIdsArchivedBetween(currentUser.getId(), from.updatedAt(), to.updatedAt());
+        return new TaskChangesDTO(changed, deleted, archived, to.encode(), hasMore, false);
+    }
+
+    /**
+     * Resolves the id of the authenticated user. Lets callers capture the user on the request thread
+     * before handing work to another thread (e.g. a streaming response).
+     *
+     * @return current user id
+     */
+    @Transactional(readOnly = true)
+    public Long getCurrentUserId() {
+        String email = getAuthenticatedUser();
+        return userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
+    }
+
+    /**
+     * Feeds every task of a user to {@code sink} straight from a database cursor, without building
+     * an intermediate list. Memory use is bounded by the chunk size regardless of how many tasks exist.
+     *
+     * @param userId owner id
+     * @param sink   receives one mapped task at a time
+     */
+    @Transactional(readOnly = true)
+    public void streamUserTasks(Long userId, Consumer<TaskResponseDTO> sink) {
+        try (Stream<Task> tasks = taskRepository.streamByUserId(userId)) {
+            Iterator<Task> it = tasks.iterator();
+            int inChunk = 0;
+            while (it.hasNext()) {
+                sink.accept(taskMapper.toResponse(it.next()));
+                if (++inChunk == STREAM_CHUNK_SIZE) {
+                    entityManager.clear();
+                    inChunk = 0;
+                }
+            }
+        }
     }
 
     /**
@@ -82,20 +434,11 @@ public class TaskService {
      * @param id task identifier
      * @return mapped task DTO
      */
+    @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        
-        // Verify the task belongs to the current user
-        String email = getAuthenticatedUser();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
-        
-        if (!task.getUser().getId().equals(currentUser.getId())) {
-            throw new UnauthorizedException("You are not authorized to access this task");
-        }
-        
-        return taskMapper.toResponse(task);
+        User currentUser = getCurrentUser();
+        Task task = findTask(id, currentUser);
+        return toResponse(task);
     }
 
     /**
@@ -117,19 +460,23 @@ public class TaskService {
         }
         task.setCompleted(request.isCompleted());
         // Set the current authenticated user
-        String email = getAuthenticatedUser();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
-        task.setUser(user);
+        User owner = getCurrentUser();
+        task.setUser(owner);
+        task.setWorkspaceId(workspaceFor(owner, request.getWorkspaceId(), null));
+        task.setLabels(labelsFor(owner.getId(), request.getLabels()));
         // Associate category if provided
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Category not found with id: " + request.getCategoryId()));
-            task.setCategory(category);
+            task.setCategory(categoryFor(request.getCategoryId(), task.getWorkspaceId()));
         }
-        Task saved = taskRepository.save(task);
-        return taskMapper.toResponse(saved);
+        Task saved = stageMetrics.record(StageMetrics.TASK_WRITE, () -> taskRepository.save(task));
+        appendOutbox(TaskEventHub.CREATED, saved.getUserId(), List.of(saved.getId()));
+        TaskResponseDTO response = toResponse(saved);
+        taskEventHub.publishAfterCommit(TaskEventHub.CREATED, saved.getId(), response,
+                recipients(saved.getUserId(), assigneeId(saved)));
+        reminderService.taskChanged(saved.getId(), saved.getDueDate(), !saved.isCompleted());
+        typeaheadService.taskChanged(saved);
+        activityRecorder.recordAfterCommit(saved.getUserId(), UserActivity.Type.TASK_CREATED, saved.getId(), saved.getTitle());
+        return response;
     }
 
     /**
@@ -141,17 +488,9 @@ public class TaskService {
      */
     @Transactional
     public TaskResponseDTO updateTask(Long id, TaskRequest request) {
-        Task existingTask = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        
-        // Verify the task belongs to the current user
-        String email = getAuthenticatedUser();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
-        
-        if (!existingTask.getUser().getId().equals(currentUser.getId())) {
-            throw new UnauthorizedException("You are not authorized to update this task");
-        }
+        User currentUser = getCurrentUser();
+        Task existingTask = findTask(id, currentUser);
+        Long previousAssigneeId = assigneeId(existingTask);
         
         // Update fields from request
         if (request.getTitle() != null) {
@@ -167,10 +506,17 @@ public class TaskService {
             existingTask.setPriority(Task.Priority.valueOf(request.getPriority().toUpperCase()));
         }
         existingTask.setCompleted(request.isCompleted());
+        if (request.getLabels() != null) {
+            existingTask.setLabels(labelsFor(currentUser.getId(), request.getLabels()));
+        }
         
-        // Set due date at start of day
+        // Set due date at start of day; a new due date gets a new reminder
         if (request.getDueDate() != null) {
-            existingTask.setDueDate(request.getDueDate().atStartOfDay());
+            LocalDateTime dueDate = request.getDueDate().atStartOfDay();
+            if (!dueDate.equals(existingTask.getDueDate())) {
+                existingTask.setRemindedAt(null);
+            }
+            existingTask.setDueDate(dueDate);
         }
         
         // Handle assignee
@@ -180,73 +526,223 @@ public class TaskService {
             existingTask.setAssignee(assignee);
         }
         
+        existingTask.setWorkspaceId(workspaceFor(currentUser, request.getWorkspaceId(), existingTask.getWorkspaceId()));
+
         // Update category association
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Category not found with id: " + request.getCategoryId()));
-            existingTask.setCategory(category);
+            existingTask.setCategory(categoryFor(request.getCategoryId(), existingTask.getWorkspaceId()));
         } else {
             existingTask.setCategory(null);
         }
         
-        Task saved = taskRepository.save(existingTask);
-        return taskMapper.toResponse(saved);
+        Task saved = stageMetrics.record(StageMetrics.TASK_WRITE, () -> taskRepository.save(existingTask));
+        appendOutbox(TaskEventHub.UPDATED, saved.getUserId(), List.of(saved.getId()));
+        TaskResponseDTO response = toResponse(saved);
+        taskEventHub.publishAfterCommit(TaskEventHub.UPDATED, saved.getId(), response,
+                recipients(saved.getUserId(), assigneeId(saved), previousAssigneeId));
+        reminderService.taskChanged(saved.getId(), saved.getDueDate(), !saved.isCompleted());
+        typeaheadService.taskChanged(saved);
+        activityRecorder.recordAfterCommit(saved.getUserId(), UserActivity.Type.TASK_UPDATED, saved.getId(), saved.getTitle());
+        return response;
     }
 
     /**
-     * Removes a task owned by the authenticated user.
+     * Removes a task owned by the authenticated user. The row is only tombstoned; it can be restored
+     * until {@link TaskPurgeService} deletes it.
      *
      * @param id task identifier to delete
      */
     @Transactional
     public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        
-        // Verify the task belongs to the current user
-        String email = getAuthenticatedUser();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
-        
-        if (!task.getUser().getId().equals(currentUser.getId())) {
-            throw new UnauthorizedException("You are not authorized to delete this task");
+        User currentUser = getCurrentUser();
+        publishDeleted(currentUser.getId(), List.of(id));
+        appendOutbox(TaskEventHub.DELETED, currentUser.getId(), List.of(id));
+        int deleted = stageMetrics.record(StageMetrics.TASK_WRITE,
+                () -> taskRepository.softDeleteByUserIdAndIdIn(currentUser.getId(), List.of(id), LocalDateTime.now()));
+        if (deleted == 0) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
         }
-        
-        taskRepository.delete(task);
+        reminderService.tasksRemoved(List.of(id));
+        typeaheadService.tasksRemoved(currentUser.getId(), List.of(id));
+        activityRecorder.recordAfterCommit(currentUser.getId(), UserActivity.Type.TASK_DELETED, id, null);
     }
 
     /**
-     * Bulk-create tasks. Authorization and ownership assignment should be handled prior to save.
+     * Restores a deleted task of the authenticated user that has not been purged yet.
+     *
+     * @param id task identifier
+     * @return restored task DTO
+     */
+    @Transactional
+    public TaskResponseDTO restoreTask(Long id) {
+        User currentUser = getCurrentUser();
+        int restored = stageMetrics.record(StageMetrics.TASK_WRITE,
+                () -> taskRepository.restore(id, currentUser.getId(), LocalDateTime.now()));
+        if (restored == 0) {
+            throw new ResourceNotFoundException("Deleted task not found with id: " + id);
+        }
+        appendOutbox(TaskEventHub.UPDATED, currentUser.getId(), List.of(id));
+        Task task = findTask(id, currentUser);
+        TaskResponseDTO response = toResponse(task);
+        taskEventHub.publishAfterCommit(TaskEventHub.UPDATED, id, response, recipients(task.getUserId(), assigneeId(task)));
+        reminderService.taskChanged(id, task.getDueDate(), !task.isCompleted());
+        typeaheadService.taskChanged(task);
+        activityRecorder.recordAfterCommit(task.getUserId(), UserActivity.Type.TASK_RESTORED, id, task.getTitle());
+        return response;
+    }
+
+    /**
+     * Bulk-create tasks owned by the authenticated user.
      *
      * @param tasks list of tasks to create
      * @return created tasks
      */
     @Transactional
     public List<Task> createBulkTasks(List<Task> tasks) {
-        // TODO: Set current user for all tasks
-        return taskRepository.saveAll(tasks);
+        User owner = getCurrentUser();
+        for (Task task : tasks) {
+            // Always insert; an id from the payload must not turn this into an update of another row
+            task.setId(null);
+            task.setUser(owner);
+            task.setWorkspaceId(workspaceFor(owner, task.getWorkspaceId(), null));
+            // Tombstones are only set by deleteTask/deleteBulkTasks, never taken from a body
+            task.setDeletedAt(null);
+            // Server-side timestamps; the entity callbacks derive them on insert, as for createTask
+            task.setCreatedAt(null);
+            task.setCompletedAt(null);
+            task.setRemindedAt(null);
+        }
+        checkCategories(tasks);
+        resolveLabels(owner.getId(), tasks);
+        return publishSaved(TaskEventHub.CREATED, UserActivity.Type.TASK_CREATED,
+                initializeCollections(taskRepository.saveAll(tasks)));
     }
 
     /**
-     * Bulk update tasks.
+     * Bulk update tasks owned by the authenticated user.
      *
      * @param tasks tasks with updated fields
      * @return updated tasks
      */
     @Transactional
     public List<Task> updateBulkTasks(List<Task> tasks) {
-        // TODO: Validate and update tasks
-        return taskRepository.saveAll(tasks);
+        User owner = getCurrentUser();
+        List<Long> ids = tasks.stream().map(Task::getId).filter(Objects::nonNull).toList();
+        // Loading the owned rows first keeps them in the persistence context, so saveAll merges into
+        // them without a per-task lookup by id alone
+        Map<Long, Task> owned = taskRepository.findByUserIdAndIdIn(owner.getId(), ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        for (Task task : tasks) {
+            Task stored = task.getId() != null ? owned.get(task.getId()) : null;
+            if (stored == null) {
+                throw new ResourceNotFoundException("Task not found with id: " + task.getId());
+            }
+            task.setUser(owner);
+            task.setWorkspaceId(workspaceFor(owner, task.getWorkspaceId(), stored.getWorkspaceId()));
+            // Deleting and restoring go through their own paths, which publish the change
+            task.setDeletedAt(stored.getDeletedAt());
+            // A backdated completedAt would get the task archived early; the entity callback sets or
+            // clears it when the completed flag changes
+            task.setCreatedAt(stored.getCreatedAt());
+            task.setCompletedAt(stored.getCompletedAt());
+            // Server-side state, not taken from the body; as in updateTask, a new due date gets a new reminder
+            task.setRemindedAt(Objects.equals(task.getDueDate(), stored.getDueDate()) ? stored.getRemindedAt() : null);
+        }
+        checkCategories(tasks);
+        resolveLabels(owner.getId(), tasks);
+        return publishSaved(TaskEventHub.UPDATED, UserActivity.Type.TASK_UPDATED,
+                initializeCollections(taskRepository.saveAll(tasks)));
+    }
+
+    private List<Task> publishSaved(String type, UserActivity.Type activity, List<Task> tasks) {
+        if (!tasks.isEmpty()) {
+            appendOutbox(type, tasks.get(0).getUserId(), tasks.stream().map(Task::getId).toList());
+        }
+        boolean publish = taskEventHub.hasSubscribers();
+        for (Task task : tasks) {
+            if (publish) {
+                taskEventHub.publishAfterCommit(type, task.getId(), taskMapper.toResponse(task),
+                        recipients(task.getUserId(), assigneeId(task)));
+            }
+            reminderService.taskChanged(task.getId(), task.getDueDate(), !task.isCompleted());
+            typeaheadService.taskChanged(task);
+            activityRecorder.recordAfterCommit(task.getUserId(), activity, task.getId(), task.getTitle());
+        }
+        return tasks;
+    }
+
+    // Bulk bodies carry categories directly. Once the workspaces are settled, each category is swapped
+    // for the stored one under the same rule as single-task writes
+    private void checkCategories(List<Task> tasks) {
+        for (Task task : tasks) {
+            if (task.getCategory() != null) {
+                Long categoryId = task.getCategory().getId();
+                if (categoryId == null) {
+                    throw new ValidationException("Categories must be referenced by id");
+                }
+                // Repeated ids are served by the persistence context
+                task.setCategory(categoryFor(categoryId, task.getWorkspaceId()));
+            }
+        }
+    }
+
+    // Dictionary entries for the label names of a request; null leaves the labels unset
+    private Set<Label> labelsFor(Long ownerId, List<String> names) {
+        return names != null ? new HashSet<>(labelService.resolve(ownerId, names).values()) : null;
+    }
+
+    // Swaps the name-only labels of bulk request bodies for dictionary entries, resolving the names of
+    // the whole batch at once
+    private void resolveLabels(Long ownerId, List<Task> tasks) {
+        List<String> names = tasks.stream()
+                .filter(task -> task.getLabels() != null)
+                .flatMap(task -> task.getLabels().stream())
+                .filter(Objects::nonNull)
+                .map(Label::getName)
+                .toList();
+        Map<String, Label> labels = labelService.resolve(ownerId, names);
+        for (Task task : tasks) {
+            if (task.getLabels() != null) {
+                task.setLabels(task.getLabels().stream()
+                        .filter(Objects::nonNull)
+                        .map(label -> labels.get(LabelService.key(label.getName())))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+            }
+        }
+    }
+
+    // Entities are serialized after the transaction ends (open-in-view is off), so lazy
+    // collections must be loaded while the session is still open
+    private static List<Task> initializeCollections(List<Task> tasks) {
+        for (Task task : tasks) {
+            Hibernate.initialize(task.getLabels());
+            Hibernate.initialize(task.getDependencies());
+        }
+        return tasks;
     }
 
     /**
-     * Bulk delete tasks by id.
+     * Bulk delete tasks by id, as a single tombstoning update. Ids of tasks the authenticated user
+     * does not own are ignored.
      *
      * @param taskIds list of ids to remove
      */
     @Transactional
     public void deleteBulkTasks(List<Long> taskIds) {
-        taskRepository.deleteAllById(taskIds);
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        User owner = getCurrentUser();
+        publishDeleted(owner.getId(), taskIds);
+        appendOutbox(TaskEventHub.DELETED, owner.getId(), taskIds);
+        int deleted = stageMetrics.record(StageMetrics.TASK_WRITE,
+                () -> taskRepository.softDeleteByUserIdAndIdIn(owner.getId(), taskIds, LocalDateTime.now()));
+        reminderService.tasksRemoved(taskIds);
+        typeaheadService.tasksRemoved(owner.getId(), taskIds);
+        // One entry for the whole request: the update does not say which of the ids were the user's
+        if (deleted > 0) {
+            activityRecorder.recordAfterCommit(owner.getId(), UserActivity.Type.TASK_DELETED, null, deleted + " tasks");
+        }
     }
 }
@@ -0,0 +1,126 @@
+package com.taskflow.backend.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+
+import com.taskflow.backend.exception.ValidationException;
+
+/**
+ * Orders a Zelvo task listing may be sorted in, keyed by the public {@code sort} parameter.
+ * <p>
+ * Every order is the sort column followed by the task id in the same direction, which is exactly the
+ * column order of one of the {@code (user_id, column, id)} task indexes: a page is read straight off the
+ * index instead of sorting all of the user's tasks, and ties never reorder between pages. The JPA
+ * {@link Sort}s are built once per order and direction; native listings order by {@link #column()} and
+ * the id. Anything else is rejected before a query runs.
+ */
+public enum TaskSort {
+
+    CREATED_AT("createdAt", "createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updatedAt", "updated_at"),
+    DUE_DATE("dueDate", "dueDate", "due_date"),
+    // Semantic rank (LOW < MEDIUM < HIGH); the stored names would sort HIGH < LOW < MEDIUM
+    PRIORITY("priority", "priorityRank", "priority_rank"),
+    STATUS("status", "status", "status");
+
+    private static final Map<String, TaskSort> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toMap(TaskSort::key, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+    private final String key;
+    private final String column;
+    private final Sort ascending;
+    private final Sort descending;
+
+    TaskSort(String key, String property, String column) {
+        this.key = key;
+        this.column = column;
+        this.ascending = Sort.by(Sort.Direction.ASC, property, "id");
+        this.descending = Sort.by(Sort.Direction.DESC, property, "id");
+    }
+
+    /**
+     * Looks up an order by its public key.
+     *
+     * @param key sort parameter, e.g. {@code dueDate}
+     * @return the matching order
+     * @throws ValidationException if the key is not one of the supported orders
+     */
+    public static TaskSort fromKey(String key) {
+        TaskSort sort = BY_KEY.get(key);
+        if (sort == null) {
+            throw new ValidationException("Cannot sort tasks by: " + key + " (supported: "
+                    + String.join(", ", BY_KEY.keySet()) + ")");
+        }
+        return sort;
+    }
+
+    /**
+     * Resolves the sort key of a listing request.
+     *
+     * @param key sort parameter, or null for the default order (newest first)
+     * @return the matching order
+     * @throws ValidationException if the key is not one of the supported orders
+     */
+    public static TaskSort requested(String key) {
+        return key != null ? fromKey(key) : CREATED_AT;
+    }
+
+    /**
+     * Resolves the direction of a listing request; the default order runs newest first.
+     *
+     * @param key       sort parameter, or null for the default order
+     * @param direction {@code asc} or {@code desc}, in any case; ignored without a key
+     * @return true for ascending
+     * @throws ValidationException for an unsupported direction
+     */
+    public static boolean ascendingRequested(String key, String direction) {
+        return key != null && isAscending(direction);
+    }
+
+    /**
+     * Parses a sort direction.
+     *
+     * @param direction {@code asc} or {@code desc}, in any case
+     * @return true for ascending
+     * @throws ValidationException for anything else
+     */
+    public static boolean isAscending(String direction) {
+        if ("asc".equalsIgnoreCase(direction)) {
+            return true;
+        }
+        if ("desc".equalsIgnoreCase(direction)) {
+            return false;
+        }
+        throw new ValidationException("Sort direction must be asc or desc: " + direction);
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * @return the column in both {@code tasks} and {@code tasks_archive}
+     */
+    public String column() {
+        return column;
+    }
+
+    /**
+     * @return the order in its public form, e.g. {@code dueDate,asc}, as reported in listing metadata
+     */
+    public String describe(boolean ascending) {
+        return key + (ascending ? ",asc" : ",desc");
+    }
+
+    /**
+     * @return the order as a JPA sort over {@link com.taskflow.backend.model.Task} properties
+     */
+    public Sort sort(boolean ascending) {
+        return ascending ? this.ascending : descending;
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskflow.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timer wheel keyed by id, used by {@link ReminderService}.
+ * <p>
+ * Time is counted in ticks. Level 0 has one slot per tick; each higher level has slots as wide as a
+ * full turn of the level below. A timer sits in the lowest level whose span covers its distance from
+ * the current tick and moves down a level each time its slot comes up, until it fires from level 0.
+ * Scheduling, cancelling and rescheduling are O(1); advancing costs O(1) per elapsed tick plus the
+ * timers that move or fire. Not thread-safe.
+ *
+ * @param <T> payload handed back when a timer fires
+ */
+class TimerWheel<T> {
+
+    private record Timer<T>(long deadlineTick, int level, int slot, T value) {}
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final long maxDelayTicks;
+    private final List<List<Set<Long>>> levels = new ArrayList<>();
+    private final Map<Long, Timer<T>> timers = new HashMap<>();
+    // Timers scheduled at or before the current tick; handed out by the next advance
+    private final Set<Long> overdue = new LinkedHashSet<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis    tick length
+     * @param slotsPerLevel slots per level, a power of two
+     * @param levelCount    number of levels; the wheel spans {@code slotsPerLevel ^ levelCount} ticks
+     * @param nowMillis     starting time
+     */
+    TimerWheel(long tickMillis, int slotsPerLevel, int levelCount, long nowMillis) {
+        if (Integer.bitCount(slotsPerLevel) != 1) {
+            throw new IllegalArgumentException("slotsPerLevel must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(slotsPerLevel);
+        this.mask = slotsPerLevel - 1;
+        this.maxDelayTicks = (1L << (bits * levelCount)) - 1;
+        for (int level = 0; level < levelCount; level++) {
+            List<Set<Long>> slots = new ArrayList<>(slotsPerLevel);
+            for (int slot = 0; slot < slotsPerLevel; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * @return the furthest ahead a timer can be scheduled, in milliseconds
+     */
+    long spanMillis() {
+        return maxDelayTicks * tickMillis;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    boolean contains(long id) {
+        return timers.containsKey(id);
+    }
+
+    /**
+     * Schedules a timer, replacing any timer with the same id.
+     *
+     * @param id             timer id
+     * @param deadlineMillis when to fire; in the past means on the next advance
+     * @param value          payload
+     * @return false if the deadline is beyond {@link #spanMillis()} and nothing was scheduled
+     */
+    boolean schedule(long id, long deadlineMillis, T value) {
+        cancel(id);
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        if (deadlineTick - currentTick > maxDelayTicks) {
+            return false;
+        }
+        place(id, deadlineTick, value);
+        return true;
+    }
+
+    /**
+     * Cancels a timer.
+     *
+     * @param id timer id
+     * @return whether a timer was pending
+     */
+    boolean cancel(long id) {
+        Timer<T> timer = timers.remove(id);
+        if (timer == null) {
+            return false;
+        }
+        if (timer.level() < 0) {
+            overdue.remove(id);
+        } else {
+            levels.get(timer.level()).get(timer.slot()).remove(id);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given time.
+     *
+     * @param nowMillis current time
+     * @return payloads of the timers that fired, in deadline order
+     */
+    List<T> advance(long nowMillis) {
+        List<T> fired = new ArrayList<>();
+        drain(new ArrayList<>(overdue), fired);
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade from the top so that timers moved down land in a slot that is processed below
+            for (int level = levels.size() - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    int slot = (int) ((currentTick >>> (bits * level)) & mask);
+                    Set<Long> ids = levels.get(level).get(slot);
+                    List<Long> moving = new ArrayList<>(ids);
+                    ids.clear();
+                    for (Long id : moving) {
+                        Timer<T> timer = timers.remove(id);
+                        place(id, timer.deadlineTick(), timer.value());
+                    }
+                }
+            }
+            Set<Long> ids = levels.get(0).get((int) (currentTick & mask));
+            List<Long> due = new ArrayList<>(ids);
+            ids.clear();
+            for (Long id : due) {
+                fired.add(timers.remove(id).value());
+            }
+            drain(new ArrayList<>(overdue), fired);
+        }
+        return fired;
+    }
+
+    private void drain(List<Long> ids, List<T> fired) {
+        for (Long id : ids) {
+            overdue.remove(id);
+            fired.add(timers.remove(id).value());
+        }
+    }
+
+    private void place(long id, long deadlineTick, T value) {
+        long delay = deadlineTick - currentTick;
+        if (delay <= 0) {
+            overdue.add(id);
+            timers.put(id, new Timer<>(deadlineTick, -1, -1, value));
+            return;
+        }
+        int level = 0;
+        while (level < levels.size() - 1 && delay >= (1L << (bits * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((deadlineTick >>> (bits * level)) & mask);
+        levels.get(level).get(slot).add(id);
+        timers.put(id, new Timer<>(deadlineTick, level, slot, value));
+    }
+}
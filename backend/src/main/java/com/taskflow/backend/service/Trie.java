@@ -0,0 +1,115 @@
+package com.taskflow.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Character trie from string keys to values, with prefix lookups in key order. Used by
+ * {@link LabelService} for label autocomplete.
+ * <p>
+ * Exact lookups cost O(key length). A prefix lookup walks down to the prefix and then visits the
+ * subtree below it only until {@code limit} values are found, so the cost does not depend on how many
+ * keys lie outside the prefix. Not thread-safe.
+ *
+ * @param <V> value type
+ */
+class Trie<V> {
+
+    private static final class Node<V> {
+        final TreeMap<Character, Node<V>> children = new TreeMap<>();
+        V value;
+    }
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    V get(String key) {
+        Node<V> node = find(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * @return the value previously stored under {@code key}, or {@code null}
+     */
+    V put(String key, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node<>());
+        }
+        V previous = node.value;
+        node.value = value;
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes a key and prunes the branches it leaves empty.
+     *
+     * @return the removed value, or {@code null}
+     */
+    V remove(String key) {
+        List<Node<V>> path = new ArrayList<>(key.length() + 1);
+        Node<V> node = root;
+        path.add(node);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            path.add(node);
+        }
+        if (node == null || node.value == null) {
+            return null;
+        }
+        V previous = node.value;
+        node.value = null;
+        size--;
+        for (int i = key.length(); i > 0; i--) {
+            Node<V> child = path.get(i);
+            if (child.value != null || !child.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+        return previous;
+    }
+
+    /**
+     * @param prefix key prefix; empty matches everything
+     * @param limit  maximum number of values
+     * @return values whose key starts with {@code prefix}, in key order
+     */
+    List<V> withPrefix(String prefix, int limit) {
+        Node<V> node = find(prefix);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        List<V> values = new ArrayList<>(Math.min(limit, size));
+        collect(node, limit, values);
+        return values;
+    }
+
+    private void collect(Node<V> node, int limit, List<V> values) {
+        if (node.value != null) {
+            values.add(node.value);
+        }
+        for (Node<V> child : node.children.values()) {
+            if (values.size() == limit) {
+                return;
+            }
+            collect(child, limit, values);
+        }
+    }
+
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,378 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.dto.TaskSuggestionDTO;
+import com.taskflow.backend.dto.TypeaheadDTO;
+import com.taskflow.backend.dto.UserSummaryDTO;
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * In-memory prefix search over Zelvo task titles and active user names, for quick-switchers and
+ * assignee pickers.
+ * <p>
+ * Titles and names are split into lower-cased words; a query matches when every query word is a prefix
+ * of some word. Each active user's task titles are indexed in a sorted word map on first use and kept
+ * current by {@link TaskService} after each commit; idle indexes expire after {@code app.typeahead.cache-ttl},
+ * which also bounds how long changes made on another instance stay invisible here. Active user names
+ * live in one sorted array snapshot, rebuilt on sign-up and profile changes and refreshed every
+ * {@code app.typeahead.user-refresh-ms}. Searches touch only the words under the prefix and never
+ * query the database once the caller's index is loaded.
+ */
+@Service
+public class TypeaheadService {
+
+    /** Upper bound for each result list. */
+    public static final int MAX_RESULTS = 20;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    record TaskEntry(long id, String title, boolean completed, LocalDateTime updatedAt, List<String> words) {}
+
+    record UserEntry(long id, String name, String email, List<String> words) {}
+
+    // Open tasks first, then the most recently updated
+    private static final Comparator<TaskEntry> TASK_RANK = Comparator.comparing(TaskEntry::completed)
+            .thenComparing(TaskEntry::updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TaskEntry::id, Comparator.reverseOrder());
+
+    // One user's task titles. A word prefix selects a contiguous range of the sorted word map. Guarded by itself
+    private static final class TaskIndex {
+        final long loadedAt = System.nanoTime();
+        private final Map<Long, TaskEntry> tasks = new HashMap<>();
+        private final TreeMap<String, Set<Long>> words = new TreeMap<>();
+
+        synchronized void put(TaskEntry entry) {
+            remove(entry.id());
+            tasks.put(entry.id(), entry);
+            for (String word : entry.words()) {
+                words.computeIfAbsent(word, w -> new HashSet<>()).add(entry.id());
+            }
+        }
+
+        synchronized void remove(long id) {
+            TaskEntry entry = tasks.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (String word : entry.words()) {
+                Set<Long> ids = words.get(word);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    words.remove(word);
+                }
+            }
+        }
+
+        // Scans the range of the most selective (longest) query word and keeps the best matches in a bounded heap
+        synchronized List<TaskEntry> search(List<String> query, int limit) {
+            String pivot = longest(query);
+            PriorityQueue<TaskEntry> best = new PriorityQueue<>(limit + 1, TASK_RANK.reversed());
+            Set<Long> seen = new HashSet<>();
+            for (Set<Long> ids : words.subMap(pivot, pivot + Character.MAX_VALUE).values()) {
+                for (Long id : ids) {
+                    TaskEntry entry = tasks.get(id);
+                    if (seen.add(id) && matchesAll(entry.words(), query)) {
+                        best.add(entry);
+                        if (best.size() > limit) {
+                            best.poll();
+                        }
+                    }
+                }
+            }
+            List<TaskEntry> ranked = new ArrayList<>(best);
+            ranked.sort(TASK_RANK);
+            return ranked;
+        }
+    }
+
+    // Active users as parallel arrays sorted by name word, one slot per word. Replaced, never modified
+    private record UserSnapshot(String[] words, UserEntry[] users, Map<String, Long> idsByEmail) {
+
+        static UserSnapshot of(Collection<UserEntry> entries) {
+            List<Map.Entry<String, UserEntry>> slots = new ArrayList<>();
+            Map<String, Long> idsByEmail = new HashMap<>();
+            for (UserEntry entry : entries) {
+                entry.words().forEach(word -> slots.add(Map.entry(word, entry)));
+                if (entry.email() != null) {
+                    idsByEmail.put(entry.email(), entry.id());
+                }
+            }
+            slots.sort(Map.Entry.<String, UserEntry>comparingByKey()
+                    .thenComparing(slot -> slot.getValue().name(), Comparator.nullsLast(Comparator.naturalOrder())));
+            String[] words = new String[slots.size()];
+            UserEntry[] users = new UserEntry[slots.size()];
+            for (int i = 0; i < slots.size(); i++) {
+                words[i] = slots.get(i).getKey();
+                users[i] = slots.get(i).getValue();
+            }
+            return new UserSnapshot(words, users, idsByEmail);
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxCachedUsers;
+    private final Timer searches;
+    private final ConcurrentHashMap<Long, TaskIndex> taskIndexes = new ConcurrentHashMap<>();
+    // Source of the user snapshot; guarded by this
+    private final Map<Long, UserEntry> activeUsers = new HashMap<>();
+    private volatile UserSnapshot userSnapshot = UserSnapshot.of(List.of());
+
+    public TypeaheadService(
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.typeahead.cache-ttl:5m}") Duration cacheTtl,
+            @Value("${app.typeahead.max-cached-users:1000}") int maxCachedUsers) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.ttlNanos = cacheTtl.toNanos();
+        this.maxCachedUsers = maxCachedUsers;
+        this.searches = Timer.builder("zelvo.typeahead.search")
+                .description("Type-ahead lookups, excluding loading a user's task index")
+                .register(meterRegistry);
+        Gauge.builder("zelvo.typeahead.cached-users", taskIndexes, Map::size)
+                .description("Users whose task titles are indexed in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Splits text into lower-cased words on anything that is not a letter or digit.
+     */
+    static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * Finds the current user's tasks and the active users matching a typed query.
+     *
+     * @param query typed text; every word must prefix a word of the title or name
+     * @param limit maximum results per list, capped at {@link #MAX_RESULTS}
+     * @return best matches
+     */
+    @Transactional(readOnly = true)
+    public TypeaheadDTO search(String query, int limit) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return new TypeaheadDTO(List.of(), List.of());
+        }
+        int max = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        TaskIndex index = taskIndex(currentUserId());
+        return searches.record(() -> new TypeaheadDTO(
+                index.search(words, max).stream()
+                        .map(task -> new TaskSuggestionDTO(task.id(), task.title(), task.completed()))
+                        .toList(),
+                searchUsers(words, max)));
+    }
+
+    /**
+     * Updates the owner's task index, if loaded, once the current transaction commits.
+     *
+     * @param task saved task
+     */
+    public void taskChanged(Task task) {
+        if (task.getId() == null || task.getUserId() == null) {
+            return;
+        }
+        Long ownerId = task.getUserId();
+        TaskEntry entry = new TaskEntry(task.getId(), task.getTitle(), task.isCompleted(), task.getUpdatedAt(),
+                words(task.getTitle()));
+        afterCommit(() -> {
+            TaskIndex index = taskIndexes.get(ownerId);
+            if (index != null) {
+                index.put(entry);
+            }
+        });
+    }
+
+    /**
+     * Removes deleted tasks from the owner's task index, if loaded, once the current transaction commits.
+     *
+     * @param ownerId task owner
+     * @param taskIds deleted tasks
+     */
+    public void tasksRemoved(Long ownerId, Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(() -> {
+            TaskIndex index = taskIndexes.get(ownerId);
+            if (index != null) {
+                ids.forEach(index::remove);
+            }
+        });
+    }
+
+    /**
+     * Adds, renames or removes a user in the name index once the current transaction commits.
+     *
+     * @param user saved user
+     */
+    public void userChanged(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        UserEntry entry = new UserEntry(user.getId(), user.getName(), user.getEmail(), words(user.getName()));
+        boolean active = user.isActive();
+        afterCommit(() -> {
+            synchronized (this) {
+                if (active) {
+                    activeUsers.put(entry.id(), entry);
+                } else {
+                    activeUsers.remove(entry.id());
+                }
+                userSnapshot = UserSnapshot.of(activeUsers.values());
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the name index from the database. Runs at startup and periodically, picking up users
+     * created or changed on other instances.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.typeahead.user-refresh-ms:300000}",
+            fixedDelayString = "${app.typeahead.user-refresh-ms:300000}")
+    public void loadUsers() {
+        Map<Long, UserEntry> loaded = new HashMap<>();
+        for (Object[] row : userRepository.findActiveSummaries()) {
+            UserEntry entry = new UserEntry((Long) row[0], (String) row[1], (String) row[2], words((String) row[1]));
+            loaded.put(entry.id(), entry);
+        }
+        synchronized (this) {
+            activeUsers.clear();
+            activeUsers.putAll(loaded);
+            userSnapshot = UserSnapshot.of(activeUsers.values());
+        }
+    }
+
+    /**
+     * Drops expired task indexes, bounding memory to the users active within the last TTL.
+     */
+    @Scheduled(fixedDelayString = "${app.typeahead.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        taskIndexes.values().removeIf(index -> now - index.loadedAt >= ttlNanos);
+    }
+
+    // Binary search to the first word at or after the pivot, then walk the words that start with it
+    private List<UserSummaryDTO> searchUsers(List<String> query, int limit) {
+        UserSnapshot snapshot = userSnapshot;
+        String pivot = longest(query);
+        int i = Arrays.binarySearch(snapshot.words(), pivot);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        Set<Long> seen = new HashSet<>();
+        List<UserSummaryDTO> matches = new ArrayList<>();
+        for (; i < snapshot.words().length && matches.size() < limit && snapshot.words()[i].startsWith(pivot); i++) {
+            UserEntry user = snapshot.users()[i];
+            if (seen.add(user.id()) && matchesAll(user.words(), query)) {
+                matches.add(new UserSummaryDTO(user.id(), user.name()));
+            }
+        }
+        return matches;
+    }
+
+    private TaskIndex taskIndex(Long userId) {
+        TaskIndex index = taskIndexes.get(userId);
+        if (index != null && System.nanoTime() - index.loadedAt < ttlNanos) {
+            return index;
+        }
+        TaskIndex loaded = new TaskIndex();
+        for (Object[] row : taskRepository.findTitlesByUserId(userId)) {
+            String title = (String) row[1];
+            loaded.put(new TaskEntry((Long) row[0], title, (Boolean) row[2], (LocalDateTime) row[3], words(title)));
+        }
+        if (taskIndexes.size() >= maxCachedUsers) {
+            sweep();
+        }
+        // Still full: serve this request from the fresh copy without caching it
+        if (taskIndexes.size() < maxCachedUsers || taskIndexes.containsKey(userId)) {
+            taskIndexes.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private Long currentUserId() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Long id = userSnapshot.idsByEmail().get(email);
+        if (id != null) {
+            return id;
+        }
+        // Signed up since the last refresh, or on another instance
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
+        userChanged(user);
+        return user.getId();
+    }
+
+    private static boolean matchesAll(List<String> words, List<String> query) {
+        for (String prefix : query) {
+            if (words.stream().noneMatch(word -> word.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String longest(List<String> words) {
+        return words.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,11 +11,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.ActivityPageDTO;
+import com.taskflow.backend.dto.UserActivityDTO;
 import com.taskflow.backend.dto.UserSummaryDTO;
 import com.taskflow.backend.exception.ResourceNotFoundException;
 import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.exception.ValidationException;
 import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserActivity;
+import com.taskflow.backend.model.UserToken;
+import com.taskflow.backend.repository.UserActivityRepository;
 import com.taskflow.backend.repository.UserRepository;
 
 /**
@@ -26,12 +30,24 @@ import com.taskflow.backend.repository.UserRepository;
 @Service
 public class UserService {
 
+    /** Upper bound for a single page of activity. */
+    public static final int MAX_ACTIVITY_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserActivityRepository userActivityRepository;
+    private final UserTokenService userTokenService;
+    private final MailService mailService;
+    private final TypeaheadService typeaheadService;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserActivityRepository userActivityRepository,
+            UserTokenService userTokenService, MailService mailService, TypeaheadService typeaheadService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userActivityRepository = userActivityRepository;
+        this.userTokenService = userTokenService;
+        this.mailService = mailService;
+        this.typeaheadService = typeaheadService;
     }
 
     /**
@@ -39,6 +55,7 @@ public class UserService {
      *
      * @return user entity bound to the current session
      */
+    @Transactional(readOnly = true)
     public User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
@@ -90,7 +107,9 @@ public class UserService {
         
         // Don't update sensitive fields like email, password, role, provider from this method
 
-        return userRepository.save(currentUser);
+        User saved = userRepository.save(currentUser);
+        typeaheadService.userChanged(currentUser);
+        return saved;
     }
 
     /**
@@ -98,6 +117,7 @@ public class UserService {
      *
      * @return preference map
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getUserPreferences() {
         User user = getCurrentUser();
         return user.getSettings();
@@ -122,12 +142,29 @@ public class UserService {
     }
 
     /**
-     * Retrieves a paginated representation of user activity.
+     * Returns a keyset page of the authenticated user's activity, newest first. Entries are written
+     * asynchronously, so the last second or so of activity may not be visible yet.
+     *
+     * @param before cursor from the previous page's {@code nextCursor}; {@code null} for the newest entries
+     * @param size   page size, capped at {@link #MAX_ACTIVITY_PAGE_SIZE}
+     * @return entries and the cursor of the next page
      */
-    public Page<?> getUserActivity(PageRequest pageRequest) {
+    @Transactional(readOnly = true)
+    public ActivityPageDTO getUserActivity(String before, int size) {
+        ActivityCursor cursor = ActivityCursor.parse(before);
+        int limit = Math.max(1, Math.min(size, MAX_ACTIVITY_PAGE_SIZE));
         User user = getCurrentUser();
-        // TODO: Implement user activity tracking
-        return Page.empty();
+        List<UserActivity> entries = userActivityRepository.findPageBefore(
+                user.getId(), cursor.occurredAt(), cursor.id(), limit);
+        List<UserActivityDTO> items = entries.stream()
+                .map(a -> new UserActivityDTO(a.getId(), a.getType().name(), a.getTaskId(), a.getDetails(), a.getOccurredAt()))
+                .toList();
+        String nextCursor = null;
+        if (entries.size() == limit) {
+            UserActivity last = entries.get(entries.size() - 1);
+            nextCursor = new ActivityCursor(last.getOccurredAt(), last.getId()).encode();
+        }
+        return new ActivityPageDTO(items, nextCursor);
     }
 
     /**
@@ -147,7 +184,8 @@ public class UserService {
     }
 
     /**
-     * Initiates a password reset workflow by sending a reset token to the given email.
+     * Initiates a password reset workflow by queuing a mail with a reset token for the given email.
+     * Sending happens in the background ({@link MailDispatcher}).
      *
      * @param email user email
      */
@@ -155,7 +193,7 @@ public class UserService {
     public void requestPasswordReset(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
-        // TODO: Generate and send reset token
+        mailService.queuePasswordResetEmail(user, userTokenService.issue(user, UserToken.Purpose.PASSWORD_RESET));
     }
 
     /**
@@ -163,11 +201,19 @@ public class UserService {
      *
      * @param token reset token
      * @param newPassword new password to apply
+     * @throws UnauthorizedException if the token is unknown, used or expired
      */
     @Transactional
     public void resetPassword(String token, String newPassword) {
-        // TODO: Validate token and reset password
-        throw new UnauthorizedException("Not implemented");
+        // Checked first so a rejected password does not use up the token
+        if (newPassword == null || newPassword.isBlank()) {
+            throw new ValidationException("New password must not be blank");
+        }
+        Long userId = userTokenService.consume(token, UserToken.Purpose.PASSWORD_RESET);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired token"));
+        user.setPassword(passwordEncoder.encode(newPassword));
+        userRepository.save(user);
     }
 
     /**
@@ -175,6 +221,7 @@ public class UserService {
      *
      * @return list of user summaries
      */
+    @Transactional(readOnly = true)
     public List<UserSummaryDTO> getAssignableUsers() {
         return userRepository.findByIsActiveTrue().stream()
             .map(user -> new UserSummaryDTO(user.getId(), user.getName()))
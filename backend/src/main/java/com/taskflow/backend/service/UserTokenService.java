@@ -0,0 +1,116 @@
+package com.taskflow.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserToken;
+import com.taskflow.backend.repository.UserTokenRepository;
+
+/**
+ * Issues and redeems the one-time tokens Zelvo mails for e-mail verification and password reset.
+ */
+@Service
+public class UserTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UserTokenRepository userTokenRepository;
+    private final Duration verificationTtl;
+    private final Duration resetTtl;
+
+    public UserTokenService(
+            UserTokenRepository userTokenRepository,
+            @Value("${app.mail.verification-token-ttl:48h}") Duration verificationTtl,
+            @Value("${app.mail.reset-token-ttl:1h}") Duration resetTtl) {
+        this.userTokenRepository = userTokenRepository;
+        this.verificationTtl = verificationTtl;
+        this.resetTtl = resetTtl;
+    }
+
+    /**
+     * Creates a token for the user, invalidating any earlier one with the same purpose.
+     *
+     * @param user    token owner; must already have an id
+     * @param purpose what the token is for
+     * @return the raw token, to be mailed; only its hash is stored
+     */
+    @Transactional
+    public String issue(User user, UserToken.Purpose purpose) {
+        LocalDateTime now = LocalDateTime.now();
+        userTokenRepository.invalidateOutstanding(user.getId(), purpose, now);
+
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        UserToken record = new UserToken();
+        record.setUserId(user.getId());
+        record.setPurpose(purpose);
+        record.setTokenHash(hash(token));
+        record.setExpiresAt(now.plus(purpose == UserToken.Purpose.PASSWORD_RESET ? resetTtl : verificationTtl));
+        userTokenRepository.save(record);
+        return token;
+    }
+
+    /**
+     * Redeems a token. A token works once, only for the purpose it was issued for, and only until it
+     * expires; the caller's transaction must complete the action the token authorizes.
+     *
+     * @param token   raw token from the mailed link
+     * @param purpose what the token is being used for
+     * @return id of the user the token was issued to
+     * @throws UnauthorizedException if the token is unknown, used, expired or meant for something else
+     */
+    @Transactional
+    public Long consume(String token, UserToken.Purpose purpose) {
+        LocalDateTime now = LocalDateTime.now();
+        UserToken record = token == null || token.isBlank()
+                ? null
+                : userTokenRepository.findByTokenHash(hash(token)).orElse(null);
+        if (record == null || record.getPurpose() != purpose || record.getUsedAt() != null
+                || !now.isBefore(record.getExpiresAt())) {
+            throw new UnauthorizedException("Invalid or expired token");
+        }
+        record.setUsedAt(now);
+        userTokenRepository.save(record);
+        return record.getUserId();
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Deletes tokens that expired more than a day ago.
+     */
+    @Scheduled(cron = "${app.mail.token-cleanup-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = userTokenRepository.deleteExpiredBefore(LocalDateTime.now().minusDays(1));
+        if (deleted > 0) {
+            logger.info("Purged {} expired user tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.Workspace;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.repository.WorkspaceRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Zelvo workspaces and their membership.
+ * <p>
+ * Every workspace-scoped request checks membership, so member lists are cached per workspace for
+ * {@code app.workspaces.cache-ttl}. Changes made here replace the entry after commit. Removals made on
+ * another instance take effect here when the entry expires; additions are picked up at once, because
+ * a failed check reloads the entry before rejecting. Workspaces the caller does not belong to are
+ * reported as not found.
+ */
+@Service
+public class WorkspaceService {
+
+    // Matches the column width
+    private static final int MAX_NAME_LENGTH = 255;
+
+    // One workspace's members by user id
+    private record Members(long loadedAt, Map<Long, Workspace.Role> roles) {}
+
+    private final WorkspaceRepository workspaceRepository;
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxCachedWorkspaces;
+    private final ConcurrentHashMap<Long, Members> members = new ConcurrentHashMap<>();
+
+    public WorkspaceService(
+            WorkspaceRepository workspaceRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.workspaces.cache-ttl:1m}") Duration cacheTtl,
+            @Value("${app.workspaces.max-cached:10000}") int maxCachedWorkspaces) {
+        this.workspaceRepository = workspaceRepository;
+        this.userRepository = userRepository;
+        this.ttlNanos = cacheTtl.toNanos();
+        this.maxCachedWorkspaces = maxCachedWorkspaces;
+        Gauge.builder("zelvo.workspaces.cached", members, Map::size)
+                .description("Workspaces whose member list is held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates a workspace with the caller as its owner.
+     *
+     * @param callerId creating user
+     * @param name     workspace name
+     * @return the new workspace
+     */
+    @Transactional
+    public Workspace createWorkspace(Long callerId, String name) {
+        if (name == null || name.isBlank() || name.trim().length() > MAX_NAME_LENGTH) {
+            throw new ValidationException("Workspace name must be 1 to " + MAX_NAME_LENGTH + " characters");
+        }
+        Workspace workspace = new Workspace();
+        workspace.setName(name.trim());
+        Workspace saved = workspaceRepository.save(workspace);
+        workspaceRepository.addMember(saved.getId(), callerId, Workspace.Role.OWNER.name());
+        return saved;
+    }
+
+    /**
+     * @param callerId member id
+     * @return the workspaces the caller belongs to, by name
+     */
+    @Transactional(readOnly = true)
+    public List<Workspace> getWorkspaces(Long callerId) {
+        return workspaceRepository.findByMemberId(callerId);
+    }
+
+    /**
+     * Adds a user to a workspace as a member. Only owners may add members; adding an existing member
+     * changes nothing.
+     *
+     * @param callerId    requesting user
+     * @param workspaceId workspace id
+     * @param email       email of the user to add
+     */
+    @Transactional
+    public void addMember(Long callerId, Long workspaceId, String email) {
+        requireOwner(workspaceId, callerId);
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        if (workspaceRepository.addMember(workspaceId, user.getId(), Workspace.Role.MEMBER.name()) > 0) {
+            afterCommit(() -> members.remove(workspaceId));
+        }
+    }
+
+    /**
+     * Removes a user from a workspace. Owners may remove anyone, members only themselves; the last
+     * owner cannot leave. The user's tasks stay in the workspace.
+     *
+     * @param callerId    requesting user
+     * @param workspaceId workspace id
+     * @param userId      user to remove
+     */
+    @Transactional
+    public void removeMember(Long callerId, Long workspaceId, Long userId) {
+        if (callerId.equals(userId)) {
+            requireMember(workspaceId, callerId);
+        } else {
+            requireOwner(workspaceId, callerId);
+        }
+        Map<Long, Workspace.Role> roles = members(workspaceId).roles();
+        if (roles.get(userId) == Workspace.Role.OWNER
+                && roles.values().stream().filter(role -> role == Workspace.Role.OWNER).count() == 1) {
+            throw new ValidationException("A workspace needs at least one owner");
+        }
+        if (workspaceRepository.removeMember(workspaceId, userId) == 0) {
+            throw new ResourceNotFoundException("User " + userId + " is not a member of workspace " + workspaceId);
+        }
+        afterCommit(() -> members.remove(workspaceId));
+    }
+
+    /**
+     * Checks that a user belongs to a workspace.
+     *
+     * @param workspaceId workspace id
+     * @param userId      user id
+     * @throws ResourceNotFoundException if the workspace does not exist or the user is not a member
+     */
+    @Transactional(readOnly = true)
+    public void requireMember(Long workspaceId, Long userId) {
+        role(workspaceId, userId);
+    }
+
+    /**
+     * Drops expired member lists, bounding memory to the workspaces used within the last TTL.
+     */
+    @Scheduled(fixedDelayString = "${app.workspaces.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        members.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+    }
+
+    private void requireOwner(Long workspaceId, Long userId) {
+        if (role(workspaceId, userId) != Workspace.Role.OWNER) {
+            throw new UnauthorizedException("Only workspace owners can manage members");
+        }
+    }
+
+    private Workspace.Role role(Long workspaceId, Long userId) {
+        Workspace.Role role = members(workspaceId).roles().get(userId);
+        if (role == null) {
+            // May have been added on another instance since the list was loaded
+            role = load(workspaceId).roles().get(userId);
+        }
+        if (role == null) {
+            throw new ResourceNotFoundException("Workspace not found with id: " + workspaceId);
+        }
+        return role;
+    }
+
+    private Members members(Long workspaceId) {
+        Members cached = members.get(workspaceId);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+            return cached;
+        }
+        return load(workspaceId);
+    }
+
+    private Members load(Long workspaceId) {
+        Map<Long, Workspace.Role> roles = new HashMap<>();
+        for (Object[] row : workspaceRepository.findMembers(workspaceId)) {
+            roles.put(((Number) row[0]).longValue(), Workspace.Role.valueOf((String) row[1]));
+        }
+        Members loaded = new Members(System.nanoTime(), Map.copyOf(roles));
+        if (members.size() >= maxCachedWorkspaces) {
+            sweep();
+        }
+        // Still full: serve this request from the fresh copy without caching it
+        if (members.size() < maxCachedWorkspaces || members.containsKey(workspaceId)) {
+            members.put(workspaceId, loaded);
+        }
+        return loaded;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- One-time tokens for e-mail verification and password reset; only a SHA-256 hash of the token is stored
+CREATE TABLE IF NOT EXISTS user_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    purpose    VARCHAR(32)  NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL UNIQUE,
+    expires_at TIMESTAMP(6) NOT NULL,
+    used_at    TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_user_tokens_user_purpose ON user_tokens (user_id, purpose);
+CREATE INDEX IF NOT EXISTS idx_user_tokens_expires_at ON user_tokens (expires_at);
+
+-- Durable queue of outgoing mail. Rows are inserted in the transaction that asks for the mail and
+-- deleted once MailDispatcher has sent them; rows that exhausted their retries keep failed_at set.
+CREATE TABLE IF NOT EXISTS mail_queue (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(500),
+    failed_at       TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL
+);
+-- The dispatcher only ever looks at pending mail that is due
+CREATE INDEX IF NOT EXISTS idx_mail_queue_next_attempt_at ON mail_queue (next_attempt_at) WHERE failed_at IS NULL;
@@ -0,0 +1,7 @@
+-- Due-date reminders (ReminderService). reminded_at records that a task's reminder went out; it is
+-- cleared when the due date changes. The partial index holds only tasks still waiting for a reminder,
+-- so loading the next window is a short range scan however large the table grows.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS reminded_at TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_pending_reminder ON tasks (due_date, id)
+    WHERE NOT completed AND deleted_at IS NULL AND reminded_at IS NULL;
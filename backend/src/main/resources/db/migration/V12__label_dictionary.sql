@@ -0,0 +1,62 @@
+-- Per-user label dictionary. Tasks reference labels by integer id through task_label_links instead of
+-- repeating the label text in every row of task_labels, and "tasks with label X" becomes an index
+-- range scan on the link table's primary key.
+CREATE TABLE IF NOT EXISTS labels (
+    id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+-- One entry per spelling regardless of case; "Bug" and "bug" are the same label
+CREATE UNIQUE INDEX IF NOT EXISTS uk_labels_user_name ON labels (user_id, lower(name));
+
+-- The link table follows the layout V4 gave the tasks table: hash-partitioned by user_id with the same
+-- number of partitions, or a plain table
+DO $$
+DECLARE
+    partitions INTEGER;
+BEGIN
+    SELECT count(*) INTO partitions
+    FROM pg_inherits i JOIN pg_class p ON p.oid = i.inhparent
+    WHERE p.relname = 'tasks';
+
+    IF partitions > 0 THEN
+        CREATE TABLE task_label_links (
+            user_id  BIGINT  NOT NULL,
+            label_id INTEGER NOT NULL REFERENCES labels (id) ON DELETE CASCADE,
+            task_id  BIGINT  NOT NULL,
+            PRIMARY KEY (user_id, label_id, task_id),
+            FOREIGN KEY (user_id, task_id) REFERENCES tasks (user_id, id) ON DELETE CASCADE
+        ) PARTITION BY HASH (user_id);
+        FOR i IN 0..partitions - 1 LOOP
+            EXECUTE format('CREATE TABLE task_label_links_p%s PARTITION OF task_label_links '
+                    || 'FOR VALUES WITH (MODULUS %s, REMAINDER %s)', i, partitions, i);
+        END LOOP;
+    ELSE
+        CREATE TABLE task_label_links (
+            user_id  BIGINT  NOT NULL,
+            label_id INTEGER NOT NULL REFERENCES labels (id) ON DELETE CASCADE,
+            task_id  BIGINT  NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+            PRIMARY KEY (user_id, label_id, task_id)
+        );
+    END IF;
+END $$;
+
+-- Loading a task's labels (Task#labels) goes by task id
+CREATE INDEX IF NOT EXISTS idx_task_label_links_task_id ON task_label_links (task_id);
+
+INSERT INTO labels (user_id, name)
+SELECT DISTINCT ON (user_id, lower(btrim(labels))) user_id, btrim(labels)
+FROM task_labels
+WHERE user_id IS NOT NULL AND btrim(labels) <> ''
+ORDER BY user_id, lower(btrim(labels)), btrim(labels)
+ON CONFLICT DO NOTHING;
+
+INSERT INTO task_label_links (user_id, label_id, task_id)
+SELECT DISTINCT tl.user_id, l.id, tl.task_id
+FROM task_labels tl
+JOIN labels l ON l.user_id = tl.user_id AND lower(l.name) = lower(btrim(tl.labels))
+ON CONFLICT DO NOTHING;
+
+DROP TABLE task_labels;
@@ -0,0 +1,10 @@
+-- Priority sort order (TaskSort). The stored names sort HIGH < LOW < MEDIUM, so listings order by a
+-- generated rank instead, in both tables the archive-inclusive listing reads. The rank index replaces
+-- the name index, which nothing filters or sorts on any more.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS priority_rank SMALLINT
+    GENERATED ALWAYS AS (CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END) STORED;
+ALTER TABLE tasks_archive ADD COLUMN IF NOT EXISTS priority_rank SMALLINT
+    GENERATED ALWAYS AS (CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_priority_rank ON tasks (user_id, priority_rank, id);
+DROP INDEX IF EXISTS idx_tasks_user_priority;
@@ -0,0 +1,51 @@
+-- Shared workspaces. A task or category with a workspace_id belongs to that workspace and is visible to
+-- its members; without one it stays personal (tasks) or global (the default categories). Tasks keep their
+-- owner and stay partitioned by user_id.
+CREATE TABLE IF NOT EXISTS workspaces (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS workspace_members (
+    workspace_id BIGINT       NOT NULL REFERENCES workspaces (id) ON DELETE CASCADE,
+    user_id      BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    role         VARCHAR(16)  NOT NULL CHECK (role IN ('OWNER', 'MEMBER')),
+    joined_at    TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (workspace_id, user_id)
+);
+
+-- "My workspaces"; the primary key serves the per-workspace member list
+CREATE INDEX IF NOT EXISTS idx_workspace_members_user_id ON workspace_members (user_id, workspace_id);
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS workspace_id BIGINT REFERENCES workspaces (id);
+ALTER TABLE tasks_archive ADD COLUMN IF NOT EXISTS workspace_id BIGINT;
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS workspace_id BIGINT REFERENCES workspaces (id) ON DELETE CASCADE;
+
+-- Team listings, one index per TaskSort key, leading with the workspace like the per-user indexes lead
+-- with the owner. Partial, so personal tasks add no index maintenance.
+CREATE INDEX IF NOT EXISTS idx_tasks_workspace_created_at ON tasks (workspace_id, created_at, id) WHERE workspace_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_tasks_workspace_updated_at ON tasks (workspace_id, updated_at, id) WHERE workspace_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_tasks_workspace_due_date ON tasks (workspace_id, due_date, id) WHERE workspace_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_tasks_workspace_priority_rank ON tasks (workspace_id, priority_rank, id) WHERE workspace_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_tasks_workspace_status ON tasks (workspace_id, status, id) WHERE workspace_id IS NOT NULL;
+
+-- Category names are unique per workspace instead of globally; global categories share workspace 0.
+-- The global constraint is found by its column: V1 names it categories_name_key, but schemas Hibernate
+-- created (ddl-auto) carry a generated name.
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        WHERE c.conrelid = 'categories'::regclass
+          AND c.contype = 'u'
+          AND c.conkey = ARRAY[(SELECT a.attnum FROM pg_attribute a
+                                WHERE a.attrelid = 'categories'::regclass AND a.attname = 'name')]
+    LOOP
+        EXECUTE format('ALTER TABLE categories DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_categories_workspace_name ON categories (COALESCE(workspace_id, 0), name);
@@ -0,0 +1,2 @@
+-- Set when the user redeems an EMAIL_VERIFICATION token; existing accounts stay unverified
+ALTER TABLE users ADD COLUMN IF NOT EXISTS email_verified_at TIMESTAMP(6);
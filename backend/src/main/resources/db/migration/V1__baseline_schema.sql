@@ -0,0 +1,68 @@
+-- Baseline schema as previously generated by Hibernate from the JPA entities.
+-- Every statement is IF NOT EXISTS so that databases created by ddl-auto=update can be adopted
+-- (baseline-on-migrate with baseline version 0 runs this script against them as a no-op).
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    password      VARCHAR(255) NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    is_active     BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    last_login    TIMESTAMP(6),
+    auth_provider VARCHAR(255),
+    github_id     VARCHAR(255),
+    settings      JSONB
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL UNIQUE,
+    color      VARCHAR(255),
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title        VARCHAR(255),
+    description  VARCHAR(255),
+    due_date     TIMESTAMP(6),
+    priority     VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    completed    BOOLEAN      NOT NULL DEFAULT FALSE,
+    status       VARCHAR(255),
+    type         VARCHAR(255),
+    story_points INTEGER,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    user_id      BIGINT REFERENCES users (id),
+    category_id  BIGINT REFERENCES categories (id),
+    assignee_id  BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS task_labels (
+    task_id BIGINT NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    labels  VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS task_dependencies (
+    task_id      BIGINT NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    dependencies BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_id   VARCHAR(36)  NOT NULL UNIQUE,
+    family_id  VARCHAR(36)  NOT NULL,
+    user_id    BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    issued_at  TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    rotated_at TIMESTAMP(6),
+    revoked_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_revoked_at ON refresh_tokens (revoked_at);
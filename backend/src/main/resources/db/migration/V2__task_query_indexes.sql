@@ -0,0 +1,23 @@
+-- Indexes backing the hot task queries. Each composite index leads with user_id so that
+-- findByUser(user, pageable) is an index range scan in the requested order, and ends with id so that
+-- ties on the sort column resolve in index order instead of requiring an extra sort step.
+
+-- Default listing order (createdAt DESC); btree indexes serve both scan directions
+CREATE INDEX IF NOT EXISTS idx_tasks_user_created_at ON tasks (user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_due_date ON tasks (user_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_updated_at ON tasks (user_id, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_priority ON tasks (user_id, priority, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status ON tasks (user_id, status, id);
+
+-- Foreign keys: Postgres does not index the referencing side, so joins from users/categories and
+-- ON DELETE checks would otherwise scan tasks
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id ON tasks (assignee_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_category_id ON tasks (category_id);
+
+-- Element-collection tables are loaded by task_id (batched IN lists) and cleared on every update
+CREATE INDEX IF NOT EXISTS idx_task_labels_task_id ON task_labels (task_id);
+CREATE INDEX IF NOT EXISTS idx_task_dependencies_task_id ON task_dependencies (task_id);
+
+-- Refresh-token cleanup and per-user lookups
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
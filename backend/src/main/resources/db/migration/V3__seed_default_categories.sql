@@ -0,0 +1,10 @@
+-- Default categories. Idempotent: existing rows (matched on the unique name) are left untouched,
+-- so re-running against a database that already has them, or where users recoloured them, is safe.
+INSERT INTO categories (name, color, created_at) VALUES
+    ('Development', '#4CAF50', NOW()),
+    ('Design', '#2196F3', NOW()),
+    ('Marketing', '#FF9800', NOW()),
+    ('Research', '#9C27B0', NOW()),
+    ('Testing', '#F44336', NOW()),
+    ('Documentation', '#00BCD4', NOW())
+ON CONFLICT (name) DO NOTHING;
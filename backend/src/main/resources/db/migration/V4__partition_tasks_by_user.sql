@@ -0,0 +1,96 @@
+-- Optional hash partitioning of tasks and its element-collection tables by user_id.
+-- The task_partitions placeholder (DB_TASK_PARTITIONS, see application.yml) picks the layout when this
+-- script runs: 0 keeps plain tables, N > 0 rebuilds all three tables as N hash partitions each.
+-- Every TaskRepository query filters on user_id, so lookups touch a single partition and vacuum,
+-- analyze and index builds work on partition-sized tables.
+
+-- Collection rows carry the partition key of their task in both layouts, so the entity mapping is
+-- the same whichever layout was chosen
+ALTER TABLE task_labels ADD COLUMN IF NOT EXISTS user_id BIGINT;
+ALTER TABLE task_dependencies ADD COLUMN IF NOT EXISTS user_id BIGINT;
+
+UPDATE task_labels l SET user_id = t.user_id FROM tasks t WHERE t.id = l.task_id AND l.user_id IS NULL;
+UPDATE task_dependencies d SET user_id = t.user_id FROM tasks t WHERE t.id = d.task_id AND d.user_id IS NULL;
+
+DO $$
+DECLARE
+    partitions CONSTANT INTEGER := ${task_partitions};
+BEGIN
+    IF partitions <= 0 THEN
+        RETURN;
+    END IF;
+
+    -- The partition key is part of the primary key, so every task needs an owner
+    IF EXISTS (SELECT 1 FROM tasks WHERE user_id IS NULL) THEN
+        RAISE EXCEPTION 'tasks without user_id must be assigned or deleted before partitioning';
+    END IF;
+
+    CREATE TABLE tasks_partitioned (
+        id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+        title        VARCHAR(255),
+        description  VARCHAR(255),
+        due_date     TIMESTAMP(6),
+        priority     VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+        completed    BOOLEAN      NOT NULL DEFAULT FALSE,
+        status       VARCHAR(255),
+        type         VARCHAR(255),
+        story_points INTEGER,
+        created_at   TIMESTAMP(6),
+        updated_at   TIMESTAMP(6),
+        user_id      BIGINT       NOT NULL REFERENCES users (id),
+        category_id  BIGINT REFERENCES categories (id),
+        assignee_id  BIGINT REFERENCES users (id),
+        PRIMARY KEY (user_id, id)
+    ) PARTITION BY HASH (user_id);
+
+    CREATE TABLE task_labels_partitioned (
+        task_id BIGINT NOT NULL,
+        labels  VARCHAR(255),
+        user_id BIGINT NOT NULL,
+        FOREIGN KEY (user_id, task_id) REFERENCES tasks_partitioned (user_id, id) ON DELETE CASCADE
+    ) PARTITION BY HASH (user_id);
+
+    CREATE TABLE task_dependencies_partitioned (
+        task_id      BIGINT NOT NULL,
+        dependencies BIGINT,
+        user_id      BIGINT NOT NULL,
+        FOREIGN KEY (user_id, task_id) REFERENCES tasks_partitioned (user_id, id) ON DELETE CASCADE
+    ) PARTITION BY HASH (user_id);
+
+    FOR i IN 0 .. partitions - 1 LOOP
+        EXECUTE format('CREATE TABLE tasks_p%s PARTITION OF tasks_partitioned '
+                || 'FOR VALUES WITH (MODULUS %s, REMAINDER %s)', i, partitions, i);
+        EXECUTE format('CREATE TABLE task_labels_p%s PARTITION OF task_labels_partitioned '
+                || 'FOR VALUES WITH (MODULUS %s, REMAINDER %s)', i, partitions, i);
+        EXECUTE format('CREATE TABLE task_dependencies_p%s PARTITION OF task_dependencies_partitioned '
+                || 'FOR VALUES WITH (MODULUS %s, REMAINDER %s)', i, partitions, i);
+    END LOOP;
+
+    INSERT INTO tasks_partitioned (id, title, description, due_date, priority, completed, status, type,
+                                   story_points, created_at, updated_at, user_id, category_id, assignee_id)
+    SELECT id, title, description, due_date, priority, completed, status, type,
+           story_points, created_at, updated_at, user_id, category_id, assignee_id
+    FROM tasks;
+    INSERT INTO task_labels_partitioned (task_id, labels, user_id)
+    SELECT task_id, labels, user_id FROM task_labels;
+    INSERT INTO task_dependencies_partitioned (task_id, dependencies, user_id)
+    SELECT task_id, dependencies, user_id FROM task_dependencies;
+
+    DROP TABLE task_labels, task_dependencies, tasks;
+    ALTER TABLE tasks_partitioned RENAME TO tasks;
+    ALTER TABLE task_labels_partitioned RENAME TO task_labels;
+    ALTER TABLE task_dependencies_partitioned RENAME TO task_dependencies;
+
+    PERFORM setval(pg_get_serial_sequence('tasks', 'id'), COALESCE((SELECT MAX(id) FROM tasks), 0) + 1, false);
+
+    -- Same indexes as V2; created on the parent, they cascade to every partition
+    CREATE INDEX idx_tasks_user_created_at ON tasks (user_id, created_at, id);
+    CREATE INDEX idx_tasks_user_due_date ON tasks (user_id, due_date, id);
+    CREATE INDEX idx_tasks_user_updated_at ON tasks (user_id, updated_at, id);
+    CREATE INDEX idx_tasks_user_priority ON tasks (user_id, priority, id);
+    CREATE INDEX idx_tasks_user_status ON tasks (user_id, status, id);
+    CREATE INDEX idx_tasks_assignee_id ON tasks (assignee_id);
+    CREATE INDEX idx_tasks_category_id ON tasks (category_id);
+    CREATE INDEX idx_task_labels_task_id ON task_labels (task_id);
+    CREATE INDEX idx_task_dependencies_task_id ON task_dependencies (task_id);
+END $$;
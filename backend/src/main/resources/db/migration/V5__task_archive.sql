@@ -0,0 +1,32 @@
+-- Archival tier: tasks completed long ago move out of tasks (and its collection tables) into a
+-- single compact table, keeping the hot indexes used by task listings small.
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP(6);
+UPDATE tasks SET completed_at = COALESCE(updated_at, created_at, NOW()) WHERE completed AND completed_at IS NULL;
+
+-- Candidate scan of the archiver; partial, so it only holds completed tasks
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_at ON tasks (completed_at) WHERE completed;
+
+-- Labels and dependencies are folded into arrays: one row per task, no join tables
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id           BIGINT       PRIMARY KEY,
+    user_id      BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    title        VARCHAR(255),
+    description  VARCHAR(255),
+    due_date     TIMESTAMP(6),
+    priority     VARCHAR(255),
+    status       VARCHAR(255),
+    type         VARCHAR(255),
+    story_points INTEGER,
+    labels       VARCHAR(255)[],
+    dependencies BIGINT[],
+    category_id  BIGINT REFERENCES categories (id),
+    assignee_id  BIGINT REFERENCES users (id),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    completed_at TIMESTAMP(6) NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL
+);
+
+-- Archived rows are only read per user, in the default listing order
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_user_created_at ON tasks_archive (user_id, created_at, id);
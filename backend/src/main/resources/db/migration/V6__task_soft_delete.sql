@@ -0,0 +1,7 @@
+-- Soft delete: deleting a task only stamps deleted_at; TaskPurgeService removes tombstoned rows
+-- (cascading to the collection tables) in throttled background batches.
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+-- Purger scan; partial, so live tasks never enter this index
+CREATE INDEX IF NOT EXISTS idx_tasks_deleted_at ON tasks (deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,4 @@
+-- Delta sync (GET /api/v1/tasks/changes). Changed and tombstoned tasks are read through the existing
+-- idx_tasks_user_updated_at (user_id, updated_at, id); tasks that left for the archive are found by
+-- when they were archived.
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_user_archived_at ON tasks_archive (user_id, archived_at);
@@ -0,0 +1,31 @@
+-- Append-only user activity log (GET /api/v1/users/activity), written in batches by ActivityRecorder.
+-- Range-partitioned by month on occurred_at: ActivityPartitionService creates upcoming months ahead of
+-- time and retires old ones with DROP TABLE instead of row-by-row deletes.
+CREATE TABLE IF NOT EXISTS user_activity (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     BIGINT       NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    type        VARCHAR(32)  NOT NULL,
+    task_id     BIGINT,
+    details     VARCHAR(255),
+    PRIMARY KEY (occurred_at, id)
+) PARTITION BY RANGE (occurred_at);
+
+-- Rows arrive in occurred_at order, so a BRIN index covers time-range scans for a few pages per
+-- partition; the btree serves the per-user keyset reads newest first
+CREATE INDEX IF NOT EXISTS idx_user_activity_occurred_at ON user_activity USING BRIN (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_user_activity_user_occurred_at ON user_activity (user_id, occurred_at, id);
+
+-- Safety net for rows outside every monthly partition (e.g. a clock far off); stays empty normally
+CREATE TABLE IF NOT EXISTS user_activity_default PARTITION OF user_activity DEFAULT;
+
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR i IN 0 .. 2 LOOP
+        month := (date_trunc('month', now()) + make_interval(months => i))::date;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF user_activity FOR VALUES FROM (%L) TO (%L)',
+                'user_activity_' || to_char(month, 'YYYY_MM'), month, (month + interval '1 month')::date);
+    END LOOP;
+END $$;
@@ -0,0 +1,14 @@
+-- Transactional outbox for task domain events. TaskService appends a row in the same transaction as
+-- the change; TaskOutboxRelay delivers rows in id order and deletes them, so the table stays close to
+-- empty and the primary key is the only index it needs.
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type        VARCHAR(32)  NOT NULL,
+    task_id     BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    assignee_id BIGINT,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+-- Rows live for milliseconds; let autovacuum keep up with the insert/delete churn
+ALTER TABLE task_outbox SET (autovacuum_vacuum_scale_factor = 0.0, autovacuum_vacuum_threshold = 1000);
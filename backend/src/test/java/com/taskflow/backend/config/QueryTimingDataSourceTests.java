@@ -0,0 +1,73 @@
+package com.taskflow.backend.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+class QueryTimingDataSourceTests {
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+    @Test
+    void timesPreparedStatementsByOperation() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from tasks where user_id = ?")).thenReturn(statement);
+
+        DataSource dataSource = new QueryTimingDataSource(target, registry, Duration.ofSeconds(1));
+        try (Connection c = dataSource.getConnection();
+                PreparedStatement ps = c.prepareStatement("select * from tasks where user_id = ?")) {
+            ps.executeQuery();
+            ps.executeQuery();
+        }
+
+        verify(statement).close();
+        assertEquals(2, registry.get(QueryTimingDataSource.METRIC).tag("operation", "select").timer().count());
+        assertEquals(0, registry.get(QueryTimingDataSource.METRIC).tag("operation", "insert").timer().count());
+    }
+
+    @Test
+    void classifiesPlainStatementsAndBatches() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+
+        DataSource dataSource = new QueryTimingDataSource(target, registry, Duration.ofSeconds(1));
+        try (Connection c = dataSource.getConnection(); Statement s = c.createStatement()) {
+            s.executeUpdate("  DELETE FROM tasks WHERE id = 1");
+            s.executeBatch();
+        }
+
+        assertEquals(1, registry.get(QueryTimingDataSource.METRIC).tag("operation", "delete").timer().count());
+        assertEquals(1, registry.get(QueryTimingDataSource.METRIC).tag("operation", "batch").timer().count());
+    }
+
+    @Test
+    void stageAndQueryTimersAreScrapeable() throws Exception {
+        new StageMetrics(registry).record(StageMetrics.JWT_PARSE, () -> "claims");
+        DataSource target = mock(DataSource.class);
+        new QueryTimingDataSource(target, registry, Duration.ofSeconds(1));
+
+        String scrape = registry.scrape();
+
+        assertTrue(scrape.contains("zelvo_request_stage_seconds_count{stage=\"jwt.parse\"} 1"), scrape);
+        assertTrue(scrape.contains("zelvo_db_query_seconds_bucket{operation=\"select\""), scrape);
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskflow.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+
+class ReplicaRoutingDataSourceTests {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyConnectionsGoToReplica() throws SQLException {
+        DataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofSeconds(5)));
+
+        read(routing);
+
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void writesGoToPrimary() throws SQLException {
+        DataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofSeconds(5)));
+
+        try (Connection connection = routing.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() throws SQLException {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        DataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), tracker);
+        authenticate("writer@example.com");
+        tracker.afterCommit(readWriteTransaction(), null);
+
+        read(routing);
+        verify(replica, never()).getConnection();
+
+        authenticate("someone-else@example.com");
+        read(routing);
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void stickinessExpires() throws Exception {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMillis(1));
+        DataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), tracker);
+        authenticate("writer@example.com");
+        tracker.afterCommit(readWriteTransaction(), null);
+
+        Thread.sleep(5);
+        read(routing);
+
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        DataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ZERO));
+
+        read(routing);
+
+        verify(replica).getConnection();
+    }
+
+    private static void read(DataSource routing) throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            // What the transaction manager does for @Transactional(readOnly = true)
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+    }
+
+    private static TransactionExecution readWriteTransaction() {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(false);
+        return transaction;
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.backend.security;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class RevocationBloomFilterTests {
+
+    @Test
+    void addedIdsAreAlwaysReported() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            String id = UUID.nameUUIDFromBytes(("family-" + i).getBytes()).toString();
+            filter.add(id);
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+        // Target is 1%; allow generous headroom so the test is not flaky
+        assertTrue(falsePositives < 3_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1_000, 0.001);
+        assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+    }
+}
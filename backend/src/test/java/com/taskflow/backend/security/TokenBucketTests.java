@@ -0,0 +1,47 @@
+package com.taskflow.backend.security;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(5, SECOND, now);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(now));
+        }
+        long wait = bucket.tryAcquire(now);
+        assertTrue(wait > 0 && wait <= SECOND / 5, "wait: " + wait);
+    }
+
+    @Test
+    void refillsOverTime() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, SECOND, now);
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+        assertTrue(bucket.tryAcquire(now) > 0);
+
+        assertEquals(0, bucket.tryAcquire(now + SECOND / 2));
+    }
+
+    @Test
+    void reportsIdleOnlyOnceFull() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, SECOND, now);
+        assertTrue(bucket.isIdle(now));
+
+        bucket.tryAcquire(now);
+        assertFalse(bucket.isIdle(now));
+        assertTrue(bucket.isIdle(now + SECOND));
+    }
+}
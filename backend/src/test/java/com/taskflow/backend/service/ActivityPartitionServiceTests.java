@@ -0,0 +1,65 @@
+package com.taskflow.backend.service;
+
+import java.sql.Connection;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ActivityPartitionServiceTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    // Pooled connections have auto-commit off: DDL only sticks if it runs in a committed transaction
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final List<String> executed = new ArrayList<>();
+
+    @BeforeEach
+    void captureStatements() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        doAnswer(invocation -> {
+            assertTrue(TransactionSynchronizationManager.isActualTransactionActive(), "DDL executed outside a transaction");
+            executed.add(invocation.getArgument(0));
+            return null;
+        }).when(jdbcTemplate).execute(anyString());
+    }
+
+    @Test
+    void createsComingMonthsAndDropsExpiredOnesInCommittedTransactions() throws Exception {
+        String expired = ActivityPartitionService.partitionName(YearMonth.now().minusMonths(14));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of(expired, ActivityPartitionService.partitionName(YearMonth.now()), "user_activity_default"));
+        ActivityPartitionService service = new ActivityPartitionService(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource), 2, 13);
+
+        service.maintainPartitions();
+
+        assertEquals(4, executed.size());
+        assertTrue(executed.get(0).contains(ActivityPartitionService.partitionName(YearMonth.now())));
+        assertEquals("DROP TABLE IF EXISTS " + expired, executed.get(3));
+        verify(connection, times(4)).commit();
+    }
+
+    @Test
+    void ignoresPartitionsItDoesNotManage() {
+        assertNull(ActivityPartitionService.monthOf("user_activity_default"));
+        assertEquals(YearMonth.of(2024, 3), ActivityPartitionService.monthOf("user_activity_2024_03"));
+    }
+}
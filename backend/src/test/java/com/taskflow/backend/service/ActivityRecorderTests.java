@@ -0,0 +1,116 @@
+package com.taskflow.backend.service;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.model.UserActivity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ActivityRecorderTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    // A real transaction manager over a mocked connection: pooled connections have auto-commit off, so
+    // writes outside a transaction would be rolled back
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void captureBatches() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        // The recorder reuses its batch list, so record the size at call time
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    assertTrue(TransactionSynchronizationManager.isActualTransactionActive(), "batch written outside a transaction");
+                    batchSizes.add(((Collection<?>) invocation.getArgument(1)).size());
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    void recordingOnlyQueuesAndFlushWritesInBatches() {
+        ActivityRecorder recorder = new ActivityRecorder(jdbcTemplate, transactionManager, registry, true, 100, 2);
+
+        for (long i = 0; i < 5; i++) {
+            recorder.record(7L, UserActivity.Type.TASK_CREATED, i, "Task " + i);
+        }
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        assertEquals(5, recorder.flush());
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(5, registry.counter("zelvo.activity.written").count());
+        assertEquals(0, recorder.flush());
+    }
+
+    @Test
+    void eachBatchIsCommitted() throws Exception {
+        ActivityRecorder recorder = new ActivityRecorder(jdbcTemplate, transactionManager, registry, true, 100, 2);
+        for (long i = 0; i < 3; i++) {
+            recorder.record(7L, UserActivity.Type.TASK_CREATED, i, null);
+        }
+
+        assertEquals(3, recorder.flush());
+        verify(connection, times(2)).commit();
+    }
+
+    @Test
+    void dropsEntriesWhenTheQueueIsFull() {
+        ActivityRecorder recorder = new ActivityRecorder(jdbcTemplate, transactionManager, registry, true, 2, 10);
+
+        for (int i = 0; i < 5; i++) {
+            recorder.record(7L, UserActivity.Type.LOGIN, null, null);
+        }
+
+        assertEquals(3, registry.counter("zelvo.activity.dropped").count());
+        assertEquals(2, recorder.flush());
+    }
+
+    @Test
+    void failedBatchIsDroppedAndCounted() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        ActivityRecorder recorder = new ActivityRecorder(jdbcTemplate, transactionManager, registry, true, 100, 10);
+        recorder.record(7L, UserActivity.Type.LOGOUT, null, null);
+
+        assertEquals(0, recorder.flush());
+        assertEquals(1, registry.counter("zelvo.activity.dropped").count());
+        assertEquals(0, recorder.flush());
+    }
+
+    @Test
+    void ignoresEntriesWhenDisabledOrWithoutUser() {
+        ActivityRecorder disabled = new ActivityRecorder(jdbcTemplate, transactionManager, registry, false, 100, 10);
+        disabled.record(7L, UserActivity.Type.LOGIN, null, null);
+        ActivityRecorder enabled = new ActivityRecorder(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), true, 100, 10);
+        enabled.record(null, UserActivity.Type.LOGIN, null, null);
+
+        assertEquals(0, disabled.flush());
+        assertEquals(0, enabled.flush());
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.model.Label;
+import com.taskflow.backend.repository.LabelRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LabelServiceTests {
+
+    private final LabelRepository labelRepository = mock(LabelRepository.class);
+    private final LabelService labelService = new LabelService(labelRepository, new SimpleMeterRegistry(),
+            Duration.ofMinutes(10), 100);
+    // Stands in for the labels table of user 7
+    private final List<Label> stored = new ArrayList<>();
+
+    @BeforeEach
+    void fakeTable() {
+        stored.add(label(1, "Backend"));
+        stored.add(label(2, "bug"));
+        when(labelRepository.findByUserId(7L)).thenAnswer(invocation -> List.copyOf(stored));
+        when(labelRepository.insertIfAbsent(eq(7L), anyString())).thenAnswer(invocation -> {
+            stored.add(label(stored.size() + 1, invocation.getArgument(1)));
+            return 1;
+        });
+        when(labelRepository.findByUserIdAndKeyIn(eq(7L), anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(1);
+            return stored.stream().filter(label -> keys.contains(LabelService.key(label.getName()))).toList();
+        });
+    }
+
+    @Test
+    void resolvesKnownNamesFromMemoryIgnoringCase() {
+        Map<String, Label> labels = labelService.resolve(7L, List.of(" BUG ", "backend", ""));
+
+        assertEquals(Set.of("bug", "backend"), labels.keySet());
+        assertEquals(2, labels.get("bug").getId());
+        verify(labelRepository, never()).insertIfAbsent(anyLong(), anyString());
+    }
+
+    @Test
+    void internsNewNamesOnceAndCachesThem() {
+        Map<String, Label> labels = labelService.resolve(7L, List.of("Frontend", "frontend"));
+
+        assertEquals(3, labels.get("frontend").getId());
+        assertEquals("Frontend", labels.get("frontend").getName());
+        verify(labelRepository, times(1)).insertIfAbsent(7L, "Frontend");
+
+        labelService.resolve(7L, List.of("FRONTEND"));
+        verify(labelRepository, times(1)).insertIfAbsent(eq(7L), anyString());
+        verify(labelRepository, times(1)).findByUserId(7L);
+    }
+
+    @Test
+    void rejectsOverlongNames() {
+        assertThrows(ValidationException.class, () -> labelService.resolve(7L, List.of("x".repeat(256))));
+    }
+
+    @Test
+    void suggestsByPrefixInAlphabeticalOrder() {
+        labelService.resolve(7L, List.of("Blocked", "design"));
+
+        assertEquals(List.of("Backend", "Blocked", "bug"), labelService.suggest(7L, "b", 10));
+        assertEquals(List.of("Backend"), labelService.suggest(7L, "B", 1));
+        assertEquals(List.of(), labelService.suggest(7L, "x", 10));
+        assertEquals(4, labelService.suggest(7L, null, 10).size());
+    }
+
+    @Test
+    void findFallsBackToTheDatabaseForLabelsAddedElsewhere() {
+        labelService.suggest(7L, "", 10);
+        stored.add(label(9, "Urgent"));
+
+        Optional<Label> found = labelService.find(7L, "urgent");
+
+        assertTrue(found.isPresent());
+        assertEquals(List.of("Urgent"), labelService.suggest(7L, "u", 10));
+        assertTrue(labelService.find(7L, "missing").isEmpty());
+    }
+
+    private static Label label(int id, String name) {
+        Label label = Label.named(name);
+        label.setId(id);
+        label.setUserId(7L);
+        return label;
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.taskflow.backend.model.QueuedMail;
+import com.taskflow.backend.repository.MailQueueRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MailDispatcherTests {
+
+    /** Stand-in for an SMTP server: records what it accepts and rejects chosen recipients. */
+    static final class FakeMailTransport implements MailTransport {
+        final List<List<String>> batches = new ArrayList<>();
+        final Set<String> rejected = new HashSet<>();
+
+        @Override
+        public Map<Long, String> send(List<QueuedMail> batch) {
+            Map<Long, String> failures = new HashMap<>();
+            List<String> accepted = new ArrayList<>();
+            for (QueuedMail mail : batch) {
+                if (rejected.contains(mail.getRecipient())) {
+                    failures.put(mail.getId(), "550 mailbox unavailable");
+                } else {
+                    accepted.add(mail.getRecipient());
+                }
+            }
+            batches.add(accepted);
+            return failures;
+        }
+    }
+
+    private final MailQueueRepository repository = mock(MailQueueRepository.class);
+    private final FakeMailTransport transport = new FakeMailTransport();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private MailDispatcher dispatcher(int batchSize) {
+        return new MailDispatcher(repository, transport, registry, batchSize, 10, 3,
+                Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    private static QueuedMail mail(long id, String recipient, int attempts) {
+        QueuedMail mail = new QueuedMail();
+        mail.setId(id);
+        mail.setRecipient(recipient);
+        mail.setSubject("Subject");
+        mail.setBody("Body");
+        mail.setAttempts(attempts);
+        return mail;
+    }
+
+    @Test
+    void sendsDueMailInBatchesAndDeletesIt() {
+        when(repository.claimDue(any(), any(), eq(2)))
+                .thenReturn(List.of(mail(1, "a@example.com", 1), mail(2, "b@example.com", 1)),
+                        List.of(mail(3, "c@example.com", 1)));
+
+        assertEquals(3, dispatcher(2).dispatch());
+
+        assertEquals(List.of(List.of("a@example.com", "b@example.com"), List.of("c@example.com")), transport.batches);
+        verify(repository).deleteByIdIn(List.of(1L, 2L));
+        verify(repository).deleteByIdIn(List.of(3L));
+        assertEquals(3, registry.counter("zelvo.mail.sent").count());
+    }
+
+    @Test
+    void reschedulesFailedMailWithBackoff() {
+        transport.rejected.add("b@example.com");
+        when(repository.claimDue(any(), any(), eq(10)))
+                .thenReturn(List.of(mail(1, "a@example.com", 1), mail(2, "b@example.com", 2)));
+        LocalDateTime before = LocalDateTime.now();
+
+        assertEquals(1, dispatcher(10).dispatch());
+
+        verify(repository).deleteByIdIn(List.of(1L));
+        // Second attempt failed: 30 s doubled, plus at most 20% jitter
+        verify(repository).reschedule(eq(2L), argThat(next ->
+                !next.isBefore(before.plusSeconds(60)) && next.isBefore(LocalDateTime.now().plusSeconds(73))),
+                eq("550 mailbox unavailable"));
+        verify(repository, never()).markFailed(any(), any(), anyString());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        transport.rejected.add("b@example.com");
+        when(repository.claimDue(any(), any(), anyInt())).thenReturn(List.of(mail(2, "b@example.com", 3)));
+
+        assertEquals(0, dispatcher(10).dispatch());
+
+        verify(repository).markFailed(eq(2L), any(), eq("550 mailbox unavailable"));
+        assertEquals(1, registry.counter("zelvo.mail.abandoned").count());
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToTheCap() {
+        MailDispatcher dispatcher = dispatcher(10);
+
+        assertTrue(dispatcher.backoff(1).compareTo(Duration.ofSeconds(30)) >= 0);
+        assertTrue(dispatcher.backoff(3).compareTo(Duration.ofSeconds(120)) >= 0);
+        assertTrue(dispatcher.backoff(20).compareTo(Duration.ofMinutes(72)) <= 0);
+    }
+}
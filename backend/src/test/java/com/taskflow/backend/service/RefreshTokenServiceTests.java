@@ -0,0 +1,100 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.RefreshToken;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.repository.RefreshTokenRepository;
+import com.taskflow.backend.security.JwtTokenProvider;
+import com.taskflow.backend.security.RevokedTokenRegistry;
+
+import io.jsonwebtoken.Claims;
+
+class RefreshTokenServiceTests {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final RevokedTokenRegistry revokedTokenRegistry = mock(RevokedTokenRegistry.class);
+    private final RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenRepository,
+            jwtTokenProvider, revokedTokenRegistry);
+    private final RefreshToken current = new RefreshToken();
+
+    @BeforeEach
+    void presentToken() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("test@example.com");
+        current.setTokenId("token-1");
+        current.setFamilyId("family-1");
+        current.setUser(user);
+
+        Claims claims = mock(Claims.class);
+        when(claims.get(JwtTokenProvider.TYPE_CLAIM)).thenReturn(JwtTokenProvider.REFRESH_TYPE);
+        when(claims.getId()).thenReturn("token-1");
+        when(jwtTokenProvider.parseClaims("presented")).thenReturn(claims);
+        when(refreshTokenRepository.findByTokenId("token-1")).thenReturn(Optional.of(current));
+        when(jwtTokenProvider.generateRefreshToken(eq("test@example.com"), any(), eq("family-1"))).thenReturn("next");
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void rotationIssuesTheNextTokenInTheFamily() {
+        when(refreshTokenRepository.markRotated(eq("token-1"), any())).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("presented");
+
+        assertEquals(7L, rotation.userId());
+        assertEquals("family-1", rotation.familyId());
+        assertEquals("next", rotation.refreshToken());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void reusedTokenRevokesTheFamily() {
+        current.setRotatedAt(LocalDateTime.now().minusMinutes(5));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("presented"));
+
+        verify(refreshTokenRepository, never()).markRotated(any(), any());
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        commit();
+        verify(revokedTokenRegistry).markRevoked("family-1");
+    }
+
+    @Test
+    void concurrentRefreshThatLosesTheClaimIsReuse() {
+        // Read as unrotated, but another request rotated the token before this one's update ran
+        when(refreshTokenRepository.markRotated(eq("token-1"), any())).thenReturn(0);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("presented"));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+
+import com.taskflow.backend.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReminderServiceTests {
+
+    private static final Duration LEAD_TIME = Duration.ofHours(1);
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskEventHub taskEventHub = mock(TaskEventHub.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 1ms ticks keep the wheel exact to the millisecond; batches of 2 exercise paging
+    private final ReminderService reminderService = new ReminderService(taskRepository, taskEventHub, meterRegistry,
+            true, true, LEAD_TIME, WINDOW, Duration.ofHours(1), 2, 1);
+
+    @Test
+    void loadWindowPagesThroughCandidatesByDueDateAndId() {
+        LocalDateTime due = LocalDateTime.now().plus(LEAD_TIME).plusMinutes(5);
+        when(candidates()).thenReturn(
+                rows(new Object[] {1L, due}, new Object[] {2L, due}),
+                rows(new Object[] {3L, due.plusMinutes(1)}));
+
+        assertEquals(3, reminderService.loadWindow());
+        assertEquals(3, reminderService.scheduledCount());
+
+        ArgumentCaptor<LocalDateTime> afterDue = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Long> afterId = ArgumentCaptor.forClass(Long.class);
+        verify(taskRepository, times(2)).findReminderCandidates(any(), any(), afterDue.capture(), afterId.capture(),
+                any(Pageable.class));
+        // The second page continues after the last row of the first
+        assertEquals(due, afterDue.getAllValues().get(1));
+        assertEquals(2L, afterId.getAllValues().get(1));
+    }
+
+    @Test
+    void laterLoadsStartWhereThePreviousOneEnded() {
+        when(candidates()).thenReturn(List.of());
+
+        reminderService.loadWindow();
+        reminderService.loadWindow();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskRepository, times(2)).findReminderCandidates(from.capture(), to.capture(), any(), anyLong(),
+                any(Pageable.class));
+        assertEquals(to.getAllValues().get(0), from.getAllValues().get(1));
+    }
+
+    @Test
+    void tickClaimsDueRemindersInBatchesAndNotifiesSubscribers() {
+        // Reminder times already passed, so all three fire on the next tick
+        LocalDateTime due = LocalDateTime.now().plus(LEAD_TIME).minusMinutes(1);
+        when(candidates()).thenReturn(
+                rows(new Object[] {1L, due}, new Object[] {2L, due}),
+                rows(new Object[] {3L, due}));
+        reminderService.loadWindow();
+        when(taskRepository.claimDueReminders(any(), any(), any(), anyBoolean()))
+                .thenReturn(rows(new Object[] {1L, 7L, 8L}, new Object[] {2L, 7L, null}), List.of());
+        when(taskEventHub.hasSubscribers()).thenReturn(true);
+
+        assertEquals(2, reminderService.tick());
+
+        verify(taskRepository, times(2)).claimDueReminders(any(), any(), any(), eq(true));
+        verify(taskEventHub).publishAfterCommit(TaskEventHub.DUE, 1L, null, listOf(7L, 8L));
+        verify(taskEventHub).publishAfterCommit(TaskEventHub.DUE, 2L, null, listOf(7L, null));
+        assertEquals(2.0, meterRegistry.counter("zelvo.reminders.fired").count());
+        assertEquals(0, reminderService.scheduledCount());
+    }
+
+    @Test
+    void failedClaimIsRetriedLater() {
+        LocalDateTime due = LocalDateTime.now().plus(LEAD_TIME).minusMinutes(1);
+        when(candidates()).thenReturn(rows(new Object[] {1L, due}));
+        reminderService.loadWindow();
+        when(taskRepository.claimDueReminders(any(), any(), any(), anyBoolean()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        assertEquals(0, reminderService.tick());
+        assertEquals(1, reminderService.scheduledCount());
+        // The retry is 30s out, not on the next tick
+        assertEquals(0, reminderService.tick());
+        verify(taskRepository, times(1)).claimDueReminders(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void taskChangesOnlyScheduleRemindersInsideTheLoadedWindow() {
+        LocalDateTime soon = LocalDateTime.now().plus(LEAD_TIME).plusMinutes(5);
+        // Before the first load nothing is known to be in range
+        reminderService.taskChanged(1L, soon, true);
+        assertEquals(0, reminderService.scheduledCount());
+
+        when(candidates()).thenReturn(List.of());
+        reminderService.loadWindow();
+
+        reminderService.taskChanged(1L, soon, true);
+        reminderService.taskChanged(2L, soon.plus(WINDOW).plusHours(1), true);
+        assertEquals(1, reminderService.scheduledCount());
+
+        // Moving a task out of the window, completing it or clearing its due date cancels the reminder
+        reminderService.taskChanged(1L, soon.plusHours(2), true);
+        assertEquals(0, reminderService.scheduledCount());
+        reminderService.taskChanged(3L, soon, true);
+        reminderService.taskChanged(3L, soon, false);
+        reminderService.taskChanged(4L, soon, true);
+        reminderService.taskChanged(4L, null, true);
+        assertEquals(0, reminderService.scheduledCount());
+    }
+
+    @Test
+    void removedTasksLoseTheirReminders() {
+        LocalDateTime soon = LocalDateTime.now().plus(LEAD_TIME).plusMinutes(5);
+        when(candidates()).thenReturn(rows(new Object[] {1L, soon}, new Object[] {2L, soon}), List.of());
+        reminderService.loadWindow();
+
+        reminderService.tasksRemoved(List.of(1L));
+
+        assertEquals(1, reminderService.scheduledCount());
+    }
+
+    private List<Object[]> candidates() {
+        return taskRepository.findReminderCandidates(any(), any(), any(), anyLong(), any(Pageable.class));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    // The recipients list may hold a null assignee, which List.of rejects
+    private static List<Long> listOf(Long... ids) {
+        List<Long> list = new ArrayList<>();
+        for (Long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+}
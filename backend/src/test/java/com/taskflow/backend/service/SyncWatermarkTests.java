@@ -0,0 +1,36 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.backend.exception.ValidationException;
+
+class SyncWatermarkTests {
+
+    @Test
+    void roundTripsWithMicrosecondPrecision() {
+        SyncWatermark watermark = new SyncWatermark(LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000), 42);
+
+        String token = watermark.encode();
+
+        assertEquals(watermark, SyncWatermark.parse(token));
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token must be URL-safe: " + token);
+    }
+
+    @Test
+    void missingTokenMeansInitialSync() {
+        assertTrue(SyncWatermark.parse(null).isInitial());
+        assertTrue(SyncWatermark.parse(" ").isInitial());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThrows(ValidationException.class, () -> SyncWatermark.parse("not-a-token"));
+        assertThrows(ValidationException.class, () -> SyncWatermark.parse("%%%"));
+        assertThrows(ValidationException.class, () -> SyncWatermark.parse("Mi4xLjI")); // "2.1.2": unknown version
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.taskflow.backend.repository.ArchivedTaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskArchiveServiceTests {
+
+    private final ArchivedTaskRepository repository = mock(ArchivedTaskRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private TaskArchiveService archiver(boolean enabled, int maxBatches) {
+        return new TaskArchiveService(repository, registry, enabled, 90, 100, maxBatches, 0);
+    }
+
+    @Test
+    void archivesInBatchesUntilAShortBatch() {
+        when(repository.archiveCompletedBefore(any(LocalDateTime.class), any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 42);
+
+        assertEquals(242, archiver(true, 10).archiveCompletedTasks());
+        verify(repository, times(3)).archiveCompletedBefore(any(LocalDateTime.class), any(LocalDateTime.class), eq(100));
+        assertEquals(242, registry.counter("zelvo.tasks.archived").count());
+    }
+
+    @Test
+    void stopsAtTheBatchCap() {
+        when(repository.archiveCompletedBefore(any(LocalDateTime.class), any(LocalDateTime.class), eq(100))).thenReturn(100);
+
+        assertEquals(200, archiver(true, 2).archiveCompletedTasks());
+        verify(repository, times(2)).archiveCompletedBefore(any(LocalDateTime.class), any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    void doesNothingWhenDisabled() {
+        assertEquals(0, archiver(false, 10).archiveCompletedTasks());
+        verify(repository, never()).archiveCompletedBefore(any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.config.JacksonConfig;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskEventHubTests {
+
+    // Collects drain tasks instead of running them, so subscriber buffers fill up deterministically
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TaskEventHub hub = new TaskEventHub(objectMapper(), pendingDrains::add, registry,
+            3, 2, 100, Duration.ofMinutes(1));
+
+    // Configured like the application's mapper: TaskResponseDTO needs the default @JsonFilter provider
+    private static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().defaultPropertyFilter().customize(builder);
+        return builder.build();
+    }
+
+    @Test
+    void deliversOnlyToRecipients() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        hub.publish(TaskEventHub.UPDATED, 10L, new TaskResponseDTO(), List.of(1L));
+
+        assertEquals(1.0, registry.counter("zelvo.events.published").count());
+    }
+
+    @Test
+    void dropsSubscriberWhoseBufferOverflows() {
+        hub.subscribe(1L); // buffer: connected comment
+
+        hub.publish(TaskEventHub.CREATED, 10L, new TaskResponseDTO(), List.of(1L));
+        hub.publish(TaskEventHub.UPDATED, 10L, new TaskResponseDTO(), List.of(1L));
+        assertTrue(hub.hasSubscribers());
+
+        hub.publish(TaskEventHub.DELETED, 10L, null, List.of(1L));
+
+        assertFalse(hub.hasSubscribers());
+        assertEquals(1.0, registry.counter("zelvo.events.dropped").count());
+        // A single drain task is scheduled per subscriber however many events are queued
+        assertEquals(1, pendingDrains.size());
+    }
+
+    @Test
+    void limitsStreamsPerUser() {
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+
+        assertThrows(ServiceUnavailableException.class, () -> hub.subscribe(1L));
+        hub.subscribe(2L);
+    }
+}
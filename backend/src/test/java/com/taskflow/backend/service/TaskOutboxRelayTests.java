@@ -0,0 +1,84 @@
+package com.taskflow.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.taskflow.backend.model.TaskOutboxEvent;
+import com.taskflow.backend.repository.TaskOutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskOutboxRelayTests {
+
+    private final TaskOutboxRepository repository = mock(TaskOutboxRepository.class);
+    private final TaskOutboxHandler handler = mock(TaskOutboxHandler.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private TaskOutboxRelay relay(int shards, int batchSize) {
+        return new TaskOutboxRelay(repository, List.of(handler), mock(PlatformTransactionManager.class), registry,
+                true, shards, batchSize, 100);
+    }
+
+    private static List<TaskOutboxEvent> events(long... ids) {
+        List<TaskOutboxEvent> events = new ArrayList<>();
+        for (long id : ids) {
+            TaskOutboxEvent event = new TaskOutboxEvent();
+            event.setId(id);
+            events.add(event);
+        }
+        return events;
+    }
+
+    @Test
+    void deliversShardInBatchesAndDeletesDeliveredEvents() {
+        when(repository.tryLockShard(anyLong())).thenReturn(true);
+        List<TaskOutboxEvent> first = events(1, 2);
+        List<TaskOutboxEvent> second = events(3);
+        when(repository.claimBatch(1, 0, 2)).thenReturn(first, second);
+
+        assertEquals(3, relay(1, 2).relay());
+
+        verify(handler).handle(first);
+        verify(handler).handle(second);
+        verify(repository).deleteByIdIn(List.of(1L, 2L));
+        verify(repository).deleteByIdIn(List.of(3L));
+        assertEquals(3, registry.counter("zelvo.outbox.relayed").count());
+    }
+
+    @Test
+    void skipsShardsLockedByAnotherNode() {
+        when(repository.tryLockShard(TaskOutboxRelay.LOCK_KEY_BASE)).thenReturn(false);
+        when(repository.tryLockShard(TaskOutboxRelay.LOCK_KEY_BASE + 1)).thenReturn(true);
+        when(repository.claimBatch(2, 1, 10)).thenReturn(events(4));
+
+        assertEquals(1, relay(2, 10).relay());
+
+        verify(repository, never()).claimBatch(eq(2), eq(0), anyInt());
+    }
+
+    @Test
+    void failedHandlerLeavesBatchInTheOutbox() {
+        when(repository.tryLockShard(anyLong())).thenReturn(true);
+        List<TaskOutboxEvent> batch = events(5);
+        when(repository.claimBatch(1, 0, 10)).thenReturn(batch);
+        doThrow(new IllegalStateException("index down")).when(handler).handle(batch);
+
+        assertEquals(0, relay(1, 10).relay());
+
+        verify(repository, never()).deleteByIdIn(any());
+        assertEquals(1, registry.counter("zelvo.outbox.failures").count());
+    }
+}
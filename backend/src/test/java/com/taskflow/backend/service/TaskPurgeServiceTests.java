@@ -0,0 +1,49 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.taskflow.backend.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskPurgeServiceTests {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void purgesTombstonesOlderThanTheGracePeriodInBatches() {
+        when(taskRepository.purgeDeletedBefore(any(LocalDateTime.class), eq(50))).thenReturn(50, 7);
+        TaskPurgeService purger = new TaskPurgeService(taskRepository, registry,
+                Duration.ofDays(7), 50, 0, Duration.ofMinutes(10));
+
+        assertEquals(57, purger.purgeDeletedTasks());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskRepository, times(2)).purgeDeletedBefore(cutoff.capture(), eq(50));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(7).plusMinutes(1)));
+        assertEquals(57, registry.counter("zelvo.tasks.purged").count());
+    }
+
+    @Test
+    void stopsWhenTheRunTimeBudgetIsSpent() {
+        when(taskRepository.purgeDeletedBefore(any(LocalDateTime.class), eq(50))).thenReturn(50);
+        TaskPurgeService purger = new TaskPurgeService(taskRepository, registry,
+                Duration.ofDays(7), 50, 0, Duration.ZERO);
+
+        assertEquals(50, purger.purgeDeletedTasks());
+        verify(taskRepository, times(1)).purgeDeletedBefore(any(LocalDateTime.class), eq(50));
+    }
+}
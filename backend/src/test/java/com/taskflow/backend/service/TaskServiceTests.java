@@ -1,28 +1,88 @@
 package com.taskflow.backend.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InOrder;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.taskflow.backend.config.StageMetrics;
+import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.TaskChangesDTO;
+import com.taskflow.backend.dto.TaskRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.exception.ValidationException;
 import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Category;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.repository.ArchivedTaskRepository;
 import com.taskflow.backend.repository.CategoryRepository;
+import com.taskflow.backend.repository.TaskOutboxRepository;
 import com.taskflow.backend.repository.TaskRepository;
 import com.taskflow.backend.repository.UserRepository;
 
-@SpringBootTest
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
 class TaskServiceTests {
 
     private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ArchivedTaskRepository archivedTaskRepository = mock(ArchivedTaskRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
     private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
     private final TaskMapper taskMapper = mock(TaskMapper.class);
-    private final TaskService taskService = new TaskService(taskRepository, userRepository, categoryRepository, taskMapper);
+    private final TaskOutboxRepository taskOutboxRepository = mock(TaskOutboxRepository.class);
+    private final WorkspaceService workspaceService = mock(WorkspaceService.class);
+    private final TaskService taskService = new TaskService(taskRepository, archivedTaskRepository, userRepository, categoryRepository, taskMapper,
+            new StageMetrics(new SimpleMeterRegistry()), mock(TaskEventHub.class), mock(ActivityRecorder.class),
+            taskOutboxRepository, mock(ReminderService.class), mock(LabelService.class),
+            mock(TypeaheadService.class), workspaceService);
+
+    @BeforeEach
+    void authenticate() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("owner@example.com");
+        when(userRepository.findByEmail("owner@example.com")).thenReturn(Optional.of(user));
+        org.springframework.security.core.userdetails.User principal =
+                new org.springframework.security.core.userdetails.User("owner@example.com", "", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
 
     @Test
     void testGetTaskById() {
@@ -32,9 +92,281 @@ class TaskServiceTests {
         TaskResponseDTO dto = new TaskResponseDTO();
         dto.setId(1L);
         dto.setTitle("Test Task");
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(task));
         when(taskMapper.toResponse(task)).thenReturn(dto);
         TaskResponseDTO result = taskService.getTaskById(1L);
         assertEquals("Test Task", result.getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTaskByIdLooksUpWithinOwnerPartition() {
+        // Someone else's task is not in the caller's partition and reads as missing
+        when(taskRepository.findByIdAndUserId(2L, 7L)).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(2L));
+    }
+
+    @Test
+    void prioritySortUsesRankAndIdTiebreaker() {
+        when(taskRepository.findByUser(any(User.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        taskService.getUserTasks(new PageRequest(0, 10, "priority", "DESC"));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findByUser(any(User.class), pageable.capture());
+        assertEquals(Sort.by(Sort.Direction.DESC, "priorityRank", "id"), pageable.getValue().getSort());
+    }
+
+    @Test
+    void sortIsDescribedByItsPublicKey() {
+        // Listing metadata echoes what the client can send back, not the entity properties
+        assertEquals("priority,desc", TaskSort.requested("priority").describe(TaskSort.ascendingRequested("priority", "DESC")));
+        assertEquals("dueDate,asc", TaskSort.requested("dueDate").describe(TaskSort.ascendingRequested("dueDate", "asc")));
+        // No sort parameter: newest first, whatever the direction parameter says
+        assertEquals("createdAt,desc", TaskSort.requested(null).describe(TaskSort.ascendingRequested(null, "asc")));
+    }
+
+    @Test
+    void unsupportedSortIsRejectedBeforeQuerying() {
+        assertThrows(ValidationException.class,
+                () -> taskService.getUserTasks(new PageRequest(0, 10, "description", "asc")));
+        assertThrows(ValidationException.class,
+                () -> taskService.getUserTasks(new PageRequest(0, 10, "dueDate", "sideways")));
+        verify(taskRepository, never()).findByUser(any(User.class), any(Pageable.class));
+    }
+
+    @Test
+    void labelAndArchiveListingsRejectSearchAndFilter() {
+        PageRequest labelled = new PageRequest(0, 10, "dueDate", "asc");
+        labelled.setLabel("bug");
+        labelled.setSearch("login");
+        PageRequest archived = new PageRequest(0, 10, "dueDate", "asc");
+        archived.setIncludeArchived(true);
+        archived.setFilter("status:done");
+
+        assertThrows(ValidationException.class, () -> taskService.getUserTasks(labelled));
+        assertThrows(ValidationException.class, () -> taskService.getUserTasks(archived));
+        // Rejected before any query, the user lookup included
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void createInWorkspaceRequiresMembership() {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Shared");
+        request.setWorkspaceId(3L);
+        when(taskMapper.toEntity(eq(request), any())).thenReturn(new Task());
+        doThrow(new ResourceNotFoundException("Workspace not found with id: 3")).when(workspaceService).requireMember(3L, 7L);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(request));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void workspaceCategoryIsHiddenFromOtherTasks() {
+        Category category = new Category();
+        category.setId(4L);
+        category.setWorkspaceId(5L);
+        when(categoryRepository.findById(4L)).thenReturn(Optional.of(category));
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Personal");
+        request.setCategoryId(4L);
+        when(taskMapper.toEntity(eq(request), any())).thenReturn(new Task());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(request));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void bulkCreateCannotBorrowAnotherWorkspacesCategory() {
+        Category category = new Category();
+        category.setId(4L);
+        category.setWorkspaceId(5L);
+        when(categoryRepository.findById(4L)).thenReturn(Optional.of(category));
+        Category reference = new Category();
+        reference.setId(4L);
+        Task task = new Task();
+        task.setTitle("Bulk");
+        task.setCategory(reference);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createBulkTasks(List.of(task)));
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void updateKeepsTheWorkspaceUnlessToldToLeaveIt() {
+        Task task = new Task();
+        task.setId(1L);
+        task.setWorkspaceId(3L);
+        when(taskRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Renamed");
+
+        taskService.updateTask(1L, request);
+        assertEquals(3L, task.getWorkspaceId());
+
+        request.setWorkspaceId(TaskService.PERSONAL);
+        taskService.updateTask(1L, request);
+        assertEquals(null, task.getWorkspaceId());
+        verify(workspaceService, never()).requireMember(anyLong(), anyLong());
+    }
+
+    @Test
+    void bulkUpdateFollowsTheSameWorkspaceRule() {
+        Task stored = new Task();
+        stored.setId(1L);
+        stored.setWorkspaceId(3L);
+        Task otherStored = new Task();
+        otherStored.setId(2L);
+        otherStored.setWorkspaceId(3L);
+        when(taskRepository.findByUserIdAndIdIn(7L, List.of(1L, 2L))).thenReturn(List.of(stored, otherStored));
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Task kept = new Task();
+        kept.setId(1L);
+        Task personal = new Task();
+        personal.setId(2L);
+        personal.setWorkspaceId(TaskService.PERSONAL);
+
+        taskService.updateBulkTasks(List.of(kept, personal));
+
+        assertEquals(3L, kept.getWorkspaceId());
+        assertEquals(null, personal.getWorkspaceId());
+    }
+
+    @Test
+    void bulkUpdateKeepsTheStoredReminderState() {
+        LocalDateTime due = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime reminded = LocalDateTime.now().minusHours(1);
+        Task stored = new Task();
+        stored.setId(1L);
+        stored.setDueDate(due);
+        stored.setRemindedAt(reminded);
+        Task otherStored = new Task();
+        otherStored.setId(2L);
+        otherStored.setDueDate(due);
+        otherStored.setRemindedAt(reminded);
+        when(taskRepository.findByUserIdAndIdIn(7L, List.of(1L, 2L))).thenReturn(List.of(stored, otherStored));
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Task sameDue = new Task();
+        sameDue.setId(1L);
+        sameDue.setDueDate(due);
+        Task moved = new Task();
+        moved.setId(2L);
+        moved.setDueDate(due.plusDays(1));
+        moved.setRemindedAt(reminded);
+
+        taskService.updateBulkTasks(List.of(sameDue, moved));
+
+        // The body's missing remindedAt does not re-arm a sent reminder; a new due date does
+        assertEquals(reminded, sameDue.getRemindedAt());
+        assertEquals(null, moved.getRemindedAt());
+    }
+
+    @Test
+    void bulkWritesIgnoreServerSideStateInTheBody() {
+        Task stored = new Task();
+        stored.setId(1L);
+        when(taskRepository.findByUserIdAndIdIn(7L, List.of(1L))).thenReturn(List.of(stored));
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Task created = new Task();
+        created.setDeletedAt(LocalDateTime.now());
+        created.setCompletedAt(LocalDateTime.now().minusYears(1));
+        created.setRemindedAt(LocalDateTime.now());
+        Task updated = new Task();
+        updated.setId(1L);
+        updated.setDeletedAt(LocalDateTime.now());
+
+        taskService.createBulkTasks(List.of(created));
+        taskService.updateBulkTasks(List.of(updated));
+
+        assertNull(created.getDeletedAt());
+        assertNull(created.getCompletedAt());
+        assertNull(created.getRemindedAt());
+        assertNull(updated.getDeletedAt());
+    }
+
+    @Test
+    void bulkUpdateKeepsServerSideTimestamps() {
+        LocalDateTime created = LocalDateTime.now().minusDays(30);
+        LocalDateTime completed = LocalDateTime.now().minusDays(2);
+        Task stored = new Task();
+        stored.setId(1L);
+        stored.setCompleted(true);
+        stored.setCreatedAt(created);
+        stored.setCompletedAt(completed);
+        when(taskRepository.findByUserIdAndIdIn(7L, List.of(1L))).thenReturn(List.of(stored));
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Task updated = new Task();
+        updated.setId(1L);
+        updated.setCompleted(true);
+        // Backdated far enough to be archived on the next run
+        updated.setCreatedAt(LocalDateTime.now().minusYears(1));
+        updated.setCompletedAt(LocalDateTime.now().minusYears(1));
+
+        taskService.updateBulkTasks(List.of(updated));
+
+        assertEquals(created, updated.getCreatedAt());
+        assertEquals(completed, updated.getCompletedAt());
+    }
+
+    @Test
+    void workspaceTasksAreOneQueryForMembers() {
+        when(taskRepository.findByWorkspaceId(eq(3L), any(Pageable.class))).thenReturn(Page.empty());
+
+        taskService.getWorkspaceTasks(3L, new PageRequest(0, 10, "dueDate", "asc"));
+
+        verify(workspaceService).requireMember(3L, 7L);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findByWorkspaceId(eq(3L), pageable.capture());
+        assertEquals(Sort.by(Sort.Direction.ASC, "dueDate", "id"), pageable.getValue().getSort());
+    }
+
+    @Test
+    void taskChangesSplitUpdatesFromTombstones() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MICROS);
+        Task updated = new Task();
+        updated.setId(3L);
+        updated.setUpdatedAt(since.plusMinutes(1));
+        Task deleted = new Task();
+        deleted.setId(4L);
+        deleted.setUpdatedAt(since.plusMinutes(2));
+        deleted.setDeletedAt(since.plusMinutes(2));
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(3L);
+        when(taskRepository.findChangedSince(eq(7L), eq(since), eq(1L), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(updated, deleted));
+        when(archivedTaskRepository.findIdsArchivedBetween(eq(7L), eq(since), any(LocalDateTime.class)))
+                .thenReturn(List.of(9L));
+        when(taskMapper.toResponse(updated)).thenReturn(dto);
+
+        TaskChangesDTO changes = taskService.getTaskChanges(new SyncWatermark(since, 1L).encode());
+
+        assertEquals(List.of(dto), changes.changed());
+        assertEquals(List.of(4L), changes.deleted());
+        assertEquals(List.of(9L), changes.archived());
+        assertFalse(changes.hasMore());
+        assertFalse(changes.resyncRequired());
+    }
+
+    @Test
+    void taskChangesRequireResyncOnceTombstonesMayBePurged() {
+        String stale = new SyncWatermark(LocalDateTime.now().minusDays(30), 1L).encode();
+
+        TaskChangesDTO changes = taskService.getTaskChanges(stale);
+
+        assertTrue(changes.resyncRequired());
+        verify(taskRepository, never()).findChangedSince(anyLong(), any(), anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void deleteAppendsOutboxEventBeforeTombstoning() {
+        when(taskRepository.softDeleteByUserIdAndIdIn(eq(7L), eq(List.of(5L)), any(LocalDateTime.class))).thenReturn(1);
+
+        taskService.deleteTask(5L);
+
+        // The append only sees live tasks, so it has to run while the task is not yet tombstoned
+        InOrder order = inOrder(taskOutboxRepository, taskRepository);
+        order.verify(taskOutboxRepository).appendForTasks(eq(TaskEventHub.DELETED), eq(7L), eq(List.of(5L)), any(LocalDateTime.class));
+        order.verify(taskRepository).softDeleteByUserIdAndIdIn(eq(7L), eq(List.of(5L)), any(LocalDateTime.class));
+    }
+}
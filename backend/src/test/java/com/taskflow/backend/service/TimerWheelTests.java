@@ -0,0 +1,75 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTests {
+
+    // 1s ticks, 4 slots, 3 levels: spans 63 ticks
+    private final TimerWheel<String> wheel = new TimerWheel<>(1000, 4, 3, 0);
+
+    @Test
+    void firesAtTheDeadlineAndNotBefore() {
+        wheel.schedule(1, 5_000, "a");
+
+        assertEquals(List.of(), wheel.advance(4_999));
+        assertEquals(List.of("a"), wheel.advance(5_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesTimersDownFromHigherLevels() {
+        wheel.schedule(1, 40_000, "far");
+        wheel.schedule(2, 18_000, "mid");
+        wheel.schedule(3, 2_000, "near");
+
+        assertEquals(List.of("near"), wheel.advance(17_000));
+        assertEquals(List.of("mid"), wheel.advance(39_000));
+        assertTrue(wheel.contains(1));
+        assertEquals(List.of("far"), wheel.advance(40_000));
+    }
+
+    @Test
+    void firesEverythingDueWhenAdvancingSeveralTicksAtOnce() {
+        wheel.schedule(1, 3_000, "a");
+        wheel.schedule(2, 21_000, "b");
+        wheel.schedule(3, 30_000, "c");
+
+        assertEquals(List.of("a", "b"), wheel.advance(25_000));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void cancelAndRescheduleReplaceTheTimer() {
+        wheel.schedule(1, 5_000, "a");
+        wheel.schedule(2, 5_000, "b");
+        wheel.schedule(1, 30_000, "a2");
+
+        assertTrue(wheel.cancel(2));
+        assertFalse(wheel.cancel(2));
+        assertEquals(List.of(), wheel.advance(29_000));
+        assertEquals(List.of("a2"), wheel.advance(30_000));
+    }
+
+    @Test
+    void rejectsDeadlinesBeyondItsSpan() {
+        assertEquals(63_000, wheel.spanMillis());
+        assertTrue(wheel.schedule(1, 63_000, "last"));
+        assertFalse(wheel.schedule(2, 64_000, "too far"));
+        assertFalse(wheel.contains(2));
+    }
+
+    @Test
+    void overdueTimersFireOnTheNextAdvance() {
+        wheel.advance(10_000);
+        wheel.schedule(1, 4_000, "late");
+        wheel.schedule(2, 10_000, "now");
+
+        assertEquals(List.of("late", "now"), wheel.advance(10_000));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+class TrieTests {
+
+    private final Trie<String> trie = new Trie<>();
+
+    @Test
+    void findsValuesByPrefixInKeyOrder() {
+        for (String key : List.of("bug", "backend", "b", "blocked", "design")) {
+            trie.put(key, key.toUpperCase());
+        }
+
+        assertEquals(List.of("B", "BACKEND", "BLOCKED", "BUG"), trie.withPrefix("b", 10));
+        assertEquals(List.of("B", "BACKEND"), trie.withPrefix("b", 2));
+        assertEquals(List.of("DESIGN"), trie.withPrefix("des", 10));
+        assertEquals(List.of(), trie.withPrefix("x", 10));
+        assertEquals(5, trie.withPrefix("", 10).size());
+    }
+
+    @Test
+    void replacesAndRemovesKeys() {
+        trie.put("bug", "old");
+        assertEquals("old", trie.put("bug", "new"));
+        trie.put("bugfix", "fix");
+        assertEquals(2, trie.size());
+
+        assertEquals("new", trie.remove("bug"));
+        assertNull(trie.remove("bug"));
+        assertNull(trie.remove("bu"));
+        assertEquals("fix", trie.get("bugfix"));
+        assertEquals(List.of("fix"), trie.withPrefix("b", 10));
+
+        trie.remove("bugfix");
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.withPrefix("", 10));
+    }
+}
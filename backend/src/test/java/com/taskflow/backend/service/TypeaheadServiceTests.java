@@ -0,0 +1,109 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.taskflow.backend.dto.TaskSuggestionDTO;
+import com.taskflow.backend.dto.TypeaheadDTO;
+import com.taskflow.backend.dto.UserSummaryDTO;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TypeaheadServiceTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TypeaheadService typeaheadService = new TypeaheadService(taskRepository, userRepository,
+            new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+
+    @BeforeEach
+    void loadIndexes() {
+        when(userRepository.findActiveSummaries()).thenReturn(List.of(
+                new Object[] {7L, "Ann Lee", "ann@example.com"},
+                new Object[] {8L, "Bob Annis", "bob@example.com"},
+                new Object[] {9L, "Carla Ng", "carla@example.com"}));
+        when(taskRepository.findTitlesByUserId(7L)).thenReturn(List.of(
+                new Object[] {1L, "Fix login bug", false, NOW.minusDays(3)},
+                new Object[] {2L, "Fix logout", true, NOW.minusDays(1)},
+                new Object[] {3L, "Write release notes", false, NOW.minusDays(2)},
+                new Object[] {4L, "Login page (redesign)", false, NOW}));
+        typeaheadService.loadUsers();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("ann@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void ranksOpenAndRecentlyUpdatedTasksFirst() {
+        assertEquals(List.of(4L, 1L, 2L), taskIds(typeaheadService.search("LOG", 10)));
+        assertEquals(List.of(4L), taskIds(typeaheadService.search("log", 1)));
+    }
+
+    @Test
+    void requiresEveryQueryWordToPrefixAWord() {
+        assertEquals(List.of(1L, 2L), taskIds(typeaheadService.search("fix lo", 10)));
+        assertEquals(List.of(4L), taskIds(typeaheadService.search("redes log", 10)));
+        assertEquals(List.of(), taskIds(typeaheadService.search("ogin", 10)));
+    }
+
+    @Test
+    void matchesUsersByAnyNameWord() {
+        assertEquals(List.of(new UserSummaryDTO(7L, "Ann Lee"), new UserSummaryDTO(8L, "Bob Annis")),
+                typeaheadService.search("ann", 10).users());
+        assertEquals(List.of(new UserSummaryDTO(7L, "Ann Lee")), typeaheadService.search("lee an", 10).users());
+    }
+
+    @Test
+    void keepsTheLoadedIndexCurrentWithoutReloading() {
+        typeaheadService.search("log", 10);
+        Task task = new Task();
+        task.setId(5L);
+        task.setUserId(7L);
+        task.setTitle("Login audit");
+        task.setUpdatedAt(NOW.plusMinutes(1));
+
+        typeaheadService.taskChanged(task);
+        typeaheadService.tasksRemoved(7L, List.of(4L));
+
+        assertEquals(List.of(5L, 1L), taskIds(typeaheadService.search("login", 10)));
+        verify(taskRepository, times(1)).findTitlesByUserId(7L);
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void blankQueriesTouchNothing() {
+        TypeaheadDTO result = typeaheadService.search("  - ", 10);
+
+        assertEquals(List.of(), result.tasks());
+        assertEquals(List.of(), result.users());
+        verify(taskRepository, never()).findTitlesByUserId(anyLong());
+    }
+
+    private static List<Long> taskIds(TypeaheadDTO result) {
+        return result.tasks().stream().map(TaskSuggestionDTO::id).toList();
+    }
+}
@@ -2,27 +2,41 @@ package com.taskflow.backend.service;
 
 import java.util.Optional;
 
+import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.MockedStatic;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.taskflow.backend.exception.ValidationException;
 import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserToken;
+import com.taskflow.backend.repository.UserActivityRepository;
 import com.taskflow.backend.repository.UserRepository;
 
 class UserServiceTests {
 
     private final UserRepository userRepository = mock(UserRepository.class);
     private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
-    private final UserService userService = new UserService(userRepository, passwordEncoder);
+    private final UserActivityRepository userActivityRepository = mock(UserActivityRepository.class);
+    private final UserTokenService userTokenService = mock(UserTokenService.class);
+    private final MailService mailService = mock(MailService.class);
+    private final UserService userService = new UserService(userRepository, passwordEncoder, userActivityRepository,
+            userTokenService, mailService, mock(TypeaheadService.class));
+
+    private MockedStatic<SecurityContextHolder> securityContextHolderMock;
 
     @BeforeEach
     void setupSecurityContext() {
@@ -33,9 +47,15 @@ class UserServiceTests {
         when(context.getAuthentication()).thenReturn(auth);
 
         // Mock the static SecurityContextHolder.getContext()
-        MockedStatic<SecurityContextHolder> securityContextHolderMock = mockStatic(SecurityContextHolder.class);
+        securityContextHolderMock = mockStatic(SecurityContextHolder.class);
         securityContextHolderMock.when(SecurityContextHolder::getContext).thenReturn(context);
     }
+
+    @AfterEach
+    void closeSecurityContextMock() {
+        securityContextHolderMock.close();
+    }
+
     @Test
     void testUpdateUserProfile() {
         User currentUser = new User();
@@ -53,4 +73,36 @@ class UserServiceTests {
 
         assertEquals("New Name", result.getName());
     }
+
+    @Test
+    void passwordResetOnlyQueuesTheMail() {
+        User user = new User();
+        user.setEmail("test@example.com");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userTokenService.issue(user, UserToken.Purpose.PASSWORD_RESET)).thenReturn("reset-token");
+
+        userService.requestPasswordReset("test@example.com");
+
+        verify(mailService).queuePasswordResetEmail(user, "reset-token");
+    }
+
+    @Test
+    void passwordResetRedeemsTheToken() {
+        User user = new User();
+        user.setPassword("old-hash");
+        when(userTokenService.consume("reset-token", UserToken.Purpose.PASSWORD_RESET)).thenReturn(5L);
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode("new-password")).thenReturn("new-hash");
+
+        userService.resetPassword("reset-token", "new-password");
+
+        assertEquals("new-hash", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void blankPasswordDoesNotUseUpTheToken() {
+        assertThrows(ValidationException.class, () -> userService.resetPassword("reset-token", " "));
+        verify(userTokenService, never()).consume(anyString(), any());
+    }
 }
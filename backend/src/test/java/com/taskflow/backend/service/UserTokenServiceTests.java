@@ -0,0 +1,73 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.UserToken;
+import com.taskflow.backend.repository.UserTokenRepository;
+
+class UserTokenServiceTests {
+
+    private final UserTokenRepository userTokenRepository = mock(UserTokenRepository.class);
+    private final UserTokenService userTokenService = new UserTokenService(userTokenRepository,
+            Duration.ofHours(48), Duration.ofHours(1));
+    private final UserToken stored = new UserToken();
+
+    @BeforeEach
+    void storeToken() {
+        stored.setUserId(5L);
+        stored.setPurpose(UserToken.Purpose.PASSWORD_RESET);
+        stored.setTokenHash(UserTokenService.hash("raw-token"));
+        stored.setExpiresAt(LocalDateTime.now().plusHours(1));
+        when(userTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void validTokenIsUsedUp() {
+        assertEquals(5L, userTokenService.consume("raw-token", UserToken.Purpose.PASSWORD_RESET));
+
+        assertNotNull(stored.getUsedAt());
+        verify(userTokenRepository).save(stored);
+        // A second redemption finds the token used
+        assertThrows(UnauthorizedException.class,
+                () -> userTokenService.consume("raw-token", UserToken.Purpose.PASSWORD_RESET));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        stored.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+        assertThrows(UnauthorizedException.class,
+                () -> userTokenService.consume("raw-token", UserToken.Purpose.PASSWORD_RESET));
+        assertNull(stored.getUsedAt());
+    }
+
+    @Test
+    void tokenOnlyWorksForItsPurpose() {
+        assertThrows(UnauthorizedException.class,
+                () -> userTokenService.consume("raw-token", UserToken.Purpose.EMAIL_VERIFICATION));
+        assertNull(stored.getUsedAt());
+    }
+
+    @Test
+    void unknownOrBlankTokensAreRejected() {
+        assertThrows(UnauthorizedException.class,
+                () -> userTokenService.consume("other-token", UserToken.Purpose.PASSWORD_RESET));
+        assertThrows(UnauthorizedException.class,
+                () -> userTokenService.consume(" ", UserToken.Purpose.PASSWORD_RESET));
+        verify(userTokenRepository, never()).findByTokenHash(UserTokenService.hash(" "));
+    }
+}
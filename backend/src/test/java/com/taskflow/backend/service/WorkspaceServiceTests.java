@@ -0,0 +1,88 @@
+package com.taskflow.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.repository.WorkspaceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkspaceServiceTests {
+
+    private final WorkspaceRepository workspaceRepository = mock(WorkspaceRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final WorkspaceService workspaceService = new WorkspaceService(workspaceRepository, userRepository,
+            new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+    // Stands in for the workspace_members rows of workspace 3
+    private final List<Object[]> members = new ArrayList<>();
+
+    @BeforeEach
+    void fakeTable() {
+        members.add(new Object[] {7L, "OWNER"});
+        members.add(new Object[] {8L, "MEMBER"});
+        when(workspaceRepository.findMembers(3L)).thenAnswer(invocation -> List.copyOf(members));
+    }
+
+    @Test
+    void membershipChecksAreServedFromMemory() {
+        workspaceService.requireMember(3L, 7L);
+        workspaceService.requireMember(3L, 8L);
+
+        verify(workspaceRepository, times(1)).findMembers(3L);
+    }
+
+    @Test
+    void nonMembersAreRejectedAfterReloading() {
+        workspaceService.requireMember(3L, 7L);
+
+        assertThrows(ResourceNotFoundException.class, () -> workspaceService.requireMember(3L, 9L));
+        // The failed check reloaded the list in case the user was just added on another instance
+        verify(workspaceRepository, times(2)).findMembers(3L);
+    }
+
+    @Test
+    void onlyOwnersAddMembers() {
+        assertThrows(UnauthorizedException.class, () -> workspaceService.addMember(8L, 3L, "new@example.com"));
+        verify(workspaceRepository, never()).addMember(anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    void addedMemberIsVisibleImmediately() {
+        User user = new User();
+        user.setId(9L);
+        when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(user));
+        when(workspaceRepository.addMember(3L, 9L, "MEMBER")).thenAnswer(invocation -> {
+            members.add(new Object[] {9L, "MEMBER"});
+            return 1;
+        });
+
+        workspaceService.addMember(7L, 3L, "new@example.com");
+        workspaceService.requireMember(3L, 9L);
+
+        verify(workspaceRepository, times(2)).findMembers(3L);
+    }
+
+    @Test
+    void lastOwnerCannotLeave() {
+        assertThrows(ValidationException.class, () -> workspaceService.removeMember(7L, 3L, 7L));
+        verify(workspaceRepository, never()).removeMember(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskflow.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskflow.backend.config.FieldSelectionAdvice;
+import com.taskflow.backend.config.JacksonConfig;
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.mapper.TaskMapper;
+
+/**
+ * Serialization cost of a task page as returned by {@code GET /api/v1/tasks}, using the application's
+ * Jackson configuration. {@code fields} exercises sparse fieldsets; empty means the full DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    @Param({"", "id,title,status,dueDate"})
+    public String fields;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<TaskResponseDTO>> response;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfig().defaultPropertyFilter().customize(builder);
+        ObjectMapper objectMapper = builder.build();
+        writer = fields.isEmpty() ? objectMapper.writer() : objectMapper.writer(FieldSelectionAdvice.filtersFor(fields));
+
+        TaskMapper mapper = new TaskMapper();
+        List<TaskResponseDTO> content = BenchmarkData.tasks(pageSize).stream().map(mapper::toResponse).toList();
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        response = ApiResponse.page(new PageImpl<>(content, pageable, 10_000), null);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
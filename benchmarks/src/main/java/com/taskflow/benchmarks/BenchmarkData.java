@@ -0,0 +1,89 @@
+package com.taskflow.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.taskflow.backend.dto.TaskRequest;
+import com.taskflow.backend.model.Category;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.User;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, shaped like typical production rows: every optional
+ * field populated, a few labels and dependencies, and an assignee and category on each task.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 15, 9, 30, 12, 345_678_000);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName("User");
+        user.setLastName("Number " + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setRole("USER");
+        return user;
+    }
+
+    static Category category(long id) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName("Category " + id);
+        category.setColor("#4CAF50");
+        return category;
+    }
+
+    static Task task(long id, User owner, User assignee, Category category) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id + ": prepare quarterly planning review");
+        task.setDescription("Collect input from the team, draft the agenda and book a room for task " + id);
+        task.setStatus(id % 3 == 0 ? "DONE" : "IN_PROGRESS");
+        task.setPriority(Task.Priority.values()[(int) (id % 3)]);
+        task.setType("TASK");
+        task.setStoryPoints((int) (id % 8) + 1);
+        task.setLabels(new ArrayList<>(List.of("planning", "q" + (id % 4 + 1), "team")));
+        task.setDependencies(new ArrayList<>(List.of(id - 1, id - 2)));
+        task.setCompleted(id % 3 == 0);
+        task.setDueDate(BASE_TIME.plusDays(id % 30));
+        task.setCreatedAt(BASE_TIME.minusDays(id % 60));
+        task.setUpdatedAt(BASE_TIME.minusHours(id % 48));
+        task.setUser(owner);
+        task.setAssignee(assignee);
+        task.setCategory(category);
+        return task;
+    }
+
+    static List<Task> tasks(int count) {
+        User owner = user(1);
+        User assignee = user(2);
+        Category category = category(1);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tasks.add(task(i, owner, assignee, category));
+        }
+        return tasks;
+    }
+
+    static TaskRequest taskRequest() {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Prepare quarterly planning review");
+        request.setDescription("Collect input from the team, draft the agenda and book a room");
+        request.setDueDate(LocalDate.of(2025, 2, 1));
+        request.setPriority("high");
+        request.setStatus("IN_PROGRESS");
+        request.setType("TASK");
+        request.setStoryPoints(5);
+        request.setLabels(List.of("planning", "q1", "team"));
+        request.setDependencies(List.of(11L, 12L));
+        request.setAssigneeId(2L);
+        request.setCategoryId(1L);
+        return request;
+    }
+}
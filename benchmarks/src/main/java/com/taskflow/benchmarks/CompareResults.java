@@ -0,0 +1,99 @@
+package com.taskflow.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files ({@code -rf json}) benchmark by benchmark and exits with status 1
+ * if any benchmark regressed by more than the threshold.
+ * <p>
+ * A change only counts as a regression when it exceeds both the threshold and the combined error
+ * margins of the two runs, so ordinary run-to-run noise does not fail a build.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.taskflow.benchmarks.CompareResults baseline.json candidate.json [thresholdPercent]
+ * </pre>
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+    record Score(String mode, double score, double error, String unit) {
+
+        // Throughput: higher is better; every time-based mode: lower is better
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 5.0;
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> candidate = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score after = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", after.score(), "new", after.unit());
+                continue;
+            }
+            double changePercent = (after.score() - before.score()) / before.score() * 100;
+            double worsening = after.higherIsBetter() ? -changePercent : changePercent;
+            boolean beyondNoise = Math.abs(after.score() - before.score()) > before.error() + after.error();
+            boolean regressed = worsening > threshold && beyondNoise;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), before.score(), after.score(),
+                    changePercent, after.unit(), regressed ? "  REGRESSION" : "");
+        }
+        for (String removed : baseline.keySet()) {
+            if (!candidate.containsKey(removed)) {
+                System.out.printf("%-90s %14.3f %14s %9s%n", removed, baseline.get(removed).score(), "-", "removed");
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    // Keyed by benchmark name plus sorted params, e.g. "...serializePage{fields=, pageSize=200}"
+    static Map<String, Score> read(File file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : root) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            JsonNode params = result.path("params");
+            if (params.isObject() && params.size() > 0) {
+                Map<String, String> sorted = new TreeMap<>();
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext();) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    sorted.put(param.getKey(), param.getValue().asText());
+                }
+                key.append(sorted);
+            }
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(key.toString(), new Score(result.path("mode").asText(), metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+}
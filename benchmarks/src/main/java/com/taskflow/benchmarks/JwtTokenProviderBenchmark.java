@@ -0,0 +1,101 @@
+package com.taskflow.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.ReflectionUtils;
+
+import com.taskflow.backend.security.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Cost of minting and verifying tokens with {@link JwtTokenProvider}. {@code parseClaims} is what
+ * {@code JwtAuthenticationFilter} runs on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private Authentication authentication;
+    private String familyId;
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        // 512-bit key, as required for HS512
+        byte[] key = new byte[64];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) (i * 31 + 7);
+        }
+        setField("jwtSecret", Base64.getEncoder().encodeToString(key));
+        setField("jwtExpirationInMs", 3_600_000);
+        setField("refreshExpirationInMs", 604_800_000);
+        Method init = ReflectionUtils.findMethod(JwtTokenProvider.class, "init");
+        ReflectionUtils.makeAccessible(init);
+        ReflectionUtils.invokeMethod(init, provider);
+
+        authentication = new UsernamePasswordAuthenticationToken("user1@example.com", null, List.of());
+        familyId = UUID.randomUUID().toString();
+        accessToken = provider.generateToken(authentication, familyId);
+        char last = accessToken.charAt(accessToken.length() - 1);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, provider, value);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateToken(authentication, familyId);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return provider.generateRefreshToken("user1@example.com", familyId, familyId);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return provider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(accessToken);
+    }
+
+    /**
+     * Rejection path: signature mismatch, which throws inside the JJWT parser.
+     */
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return provider.validateToken(tamperedToken);
+    }
+}
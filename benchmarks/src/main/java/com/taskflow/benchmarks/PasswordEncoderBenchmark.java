@@ -0,0 +1,65 @@
+package com.taskflow.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.taskflow.backend.security.PasswordEncoderConfig;
+
+/**
+ * Measures password verification throughput for each supported hashing cost.
+ * <p>
+ * Runs single-threaded, so the reported ops/s is the number of logins one core can verify per second
+ * for that setting. Settings use the form {@code bcrypt-<strength>} or
+ * {@code argon2-<memoryKib>-<iterations>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"bcrypt-10", "bcrypt-11", "bcrypt-12", "argon2-16384-2", "argon2-65536-3"})
+    public String setting;
+
+    private PasswordEncoder encoder;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        String[] parts = setting.split("-");
+        if (PasswordEncoderConfig.BCRYPT.equals(parts[0])) {
+            encoder = PasswordEncoderConfig.createDelegatingEncoder(
+                    PasswordEncoderConfig.BCRYPT, Integer.parseInt(parts[1]), 16384, 2, 1);
+        } else {
+            encoder = PasswordEncoderConfig.createDelegatingEncoder(
+                    PasswordEncoderConfig.ARGON2, 10, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), 1);
+        }
+        storedHash = encoder.encode(PASSWORD);
+    }
+
+    /**
+     * One successful login's worth of hashing work.
+     */
+    @Benchmark
+    public boolean verifyLogin() {
+        return encoder.matches(PASSWORD, storedHash);
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskflow.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskflow.backend.dto.TaskRequest;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.User;
+
+/**
+ * Per-task cost of {@link TaskMapper} conversions. {@code toResponse} runs once per row of every task
+ * page and export, so its cost scales with page size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper mapper = new TaskMapper();
+    private Task task;
+    private TaskRequest request;
+    private Optional<User> assignee;
+
+    @Setup
+    public void setUp() {
+        task = BenchmarkData.task(42, BenchmarkData.user(1), BenchmarkData.user(2), BenchmarkData.category(1));
+        request = BenchmarkData.taskRequest();
+        assignee = Optional.of(BenchmarkData.user(2));
+    }
+
+    @Benchmark
+    public TaskResponseDTO toResponse() {
+        return mapper.toResponse(task);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return mapper.toEntity(request, assignee);
+    }
+}
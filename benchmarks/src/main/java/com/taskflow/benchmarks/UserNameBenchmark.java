@@ -0,0 +1,59 @@
+package com.taskflow.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskflow.backend.model.User;
+
+/**
+ * Cost of {@link User}'s name handling. {@code getFullName} backs {@code getName}, which the mapper
+ * calls for every assigned task; {@code setName} splits the legacy single-field name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserNameBenchmark {
+
+    private User splitName;
+    private User singleName;
+    private User target;
+
+    @Setup
+    public void setUp() {
+        splitName = new User();
+        splitName.setFirstName("Ada");
+        splitName.setLastName("Lovelace");
+        singleName = new User();
+        singleName.setName("Ada");
+        target = new User();
+    }
+
+    @Benchmark
+    public String getFullNameFromParts() {
+        return splitName.getFullName();
+    }
+
+    @Benchmark
+    public String getFullNameFromName() {
+        return singleName.getFullName();
+    }
+
+    @Benchmark
+    public User setName() {
+        target.setName("Ada King Lovelace");
+        return target;
+    }
+}
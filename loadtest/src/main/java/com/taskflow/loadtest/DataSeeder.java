@@ -0,0 +1,150 @@
+package com.taskflow.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * Seeds load-test users, each owning a fixed number of tasks, directly through JDBC.
+ * <p>
+ * Tasks are generated server-side with {@code generate_series}, so 100k rows take seconds rather than
+ * 100k round trips. Values are spread over priorities, statuses, categories and dates so that sorting
+ * and filtering behave as they would on real data. Tables are analyzed afterwards so the planner
+ * chooses production-like plans.
+ */
+final class DataSeeder {
+
+    /**
+     * A seeded user.
+     *
+     * @param email     login e-mail
+     * @param id        user id
+     * @param taskCount number of tasks owned
+     */
+    record SeededUser(String email, long id, int taskCount) {}
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (name, first_name, last_name, email, password, role, is_active, created_at, updated_at)
+            VALUES (?, 'Load', ?, ?, ?, 'USER', TRUE, NOW(), NOW())
+            ON CONFLICT (email) DO UPDATE SET password = EXCLUDED.password
+            RETURNING id
+            """;
+
+    private static final String INSERT_TASKS = """
+            INSERT INTO tasks (title, description, due_date, priority, completed, status, type, story_points,
+                               created_at, updated_at, user_id, category_id)
+            SELECT 'Load task ' || g,
+                   'Seeded description for load task ' || g,
+                   NOW() + (g % 90) * INTERVAL '1 day',
+                   (ARRAY['LOW', 'MEDIUM', 'HIGH'])[g % 3 + 1],
+                   g % 4 = 0,
+                   (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[g % 3 + 1],
+                   'TASK',
+                   g % 8 + 1,
+                   NOW() - (g % 365) * INTERVAL '1 day',
+                   NOW() - (g % 720) * INTERVAL '1 hour',
+                   ?,
+                   (SELECT MIN(id) FROM categories) + g % 6
+            FROM generate_series(1, ?) AS g
+            """;
+
+    private static final String INSERT_LABELS = """
+            INSERT INTO labels (user_id, name)
+            SELECT ?, 'label-' || g FROM generate_series(0, 11) AS g
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_LABEL_LINKS = """
+            INSERT INTO task_label_links (user_id, label_id, task_id)
+            SELECT t.user_id, l.id, t.id
+            FROM tasks t JOIN labels l ON l.user_id = t.user_id AND l.name = 'label-' || (t.id % 12)
+            WHERE t.user_id = ?
+            """;
+
+    private final DataSource dataSource;
+
+    DataSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Creates (or resets) one user per size, named {@code load-<size>@example.com}, and their tasks.
+     *
+     * @param sizes        task counts, one user each
+     * @param passwordHash encoded password shared by all seeded users
+     * @return seeded users in the order of {@code sizes}
+     */
+    List<SeededUser> seed(List<Integer> sizes, String passwordHash) throws SQLException {
+        List<SeededUser> users = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            for (int size : sizes) {
+                String email = "load-" + size + "@example.com";
+                long id = insertUser(connection, email, size, passwordHash);
+                try (PreparedStatement clear = connection.prepareStatement("DELETE FROM tasks WHERE user_id = ?")) {
+                    clear.setLong(1, id);
+                    clear.executeUpdate();
+                }
+                try (PreparedStatement tasks = connection.prepareStatement(INSERT_TASKS)) {
+                    tasks.setLong(1, id);
+                    tasks.setInt(2, size);
+                    tasks.executeUpdate();
+                }
+                try (PreparedStatement labels = connection.prepareStatement(INSERT_LABELS)) {
+                    labels.setLong(1, id);
+                    labels.executeUpdate();
+                }
+                try (PreparedStatement links = connection.prepareStatement(INSERT_LABEL_LINKS)) {
+                    links.setLong(1, id);
+                    links.executeUpdate();
+                }
+                connection.commit();
+                users.add(new SeededUser(email, id, size));
+            }
+            connection.setAutoCommit(true);
+            try (Statement analyze = connection.createStatement()) {
+                analyze.execute("ANALYZE users, tasks, labels, task_label_links");
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Returns up to {@code limit} task ids owned by a user, for update scenarios.
+     */
+    List<Long> taskIds(long userId, int limit) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement query = connection.prepareStatement(
+                        "SELECT id FROM tasks WHERE user_id = ? ORDER BY id LIMIT ?")) {
+            query.setLong(1, userId);
+            query.setInt(2, limit);
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static long insertUser(Connection connection, String email, int size, String passwordHash)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_USER)) {
+            insert.setString(1, "Load " + size);
+            insert.setString(2, Integer.toString(size));
+            insert.setString(3, email);
+            insert.setString(4, passwordHash);
+            try (ResultSet rs = insert.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+}
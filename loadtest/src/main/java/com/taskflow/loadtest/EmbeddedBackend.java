@@ -0,0 +1,102 @@
+package com.taskflow.loadtest;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.taskflow.backend.BackendApplication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Runs the Zelvo backend in-process on a random port against either an embedded PostgreSQL server
+ * (binaries ship with the dependency, so no network or Docker is needed) or an external database.
+ * <p>
+ * Flyway migrations run on startup exactly as in production. Rate limiting is disabled so the
+ * generator, not the limiter, determines the offered load.
+ */
+final class EmbeddedBackend implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private EmbeddedBackend(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    /**
+     * Starts the database (unless {@code jdbcUrl} is given) and the application.
+     *
+     * @param jdbcUrl    external database URL, or {@code null} for an embedded server
+     * @param dbUser     user for the external database
+     * @param dbPassword password for the external database
+     * @param extraArgs  additional {@code --key=value} application arguments
+     */
+    static EmbeddedBackend start(String jdbcUrl, String dbUser, String dbPassword, List<String> extraArgs)
+            throws IOException {
+        EmbeddedPostgres postgres = null;
+        if (jdbcUrl == null) {
+            postgres = EmbeddedPostgres.builder().start();
+            jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+            dbUser = "postgres";
+            dbPassword = "";
+        }
+
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+
+        // Command-line arguments outrank any application.properties packaged into the backend jar
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + dbUser,
+                "--spring.datasource.password=" + dbPassword,
+                "--app.jwt.secret=" + Base64.getEncoder().encodeToString(key),
+                "--app.jwt.expiration=3600000",
+                "--app.jwt.refresh-expiration=604800000",
+                "--app.rate-limit.enabled=false",
+                // oauth2Login needs at least one registration; it is never exercised
+                "--spring.security.oauth2.client.registration.github.client-id=loadtest",
+                "--spring.security.oauth2.client.registration.github.client-secret=loadtest",
+                "--logging.level.root=WARN",
+                "--logging.level.com.taskflow=WARN"));
+        args.addAll(extraArgs);
+
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                    .run(args.toArray(String[]::new));
+            return new EmbeddedBackend(postgres, context);
+        } catch (RuntimeException e) {
+            if (postgres != null) {
+                postgres.close();
+            }
+            throw e;
+        }
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+}
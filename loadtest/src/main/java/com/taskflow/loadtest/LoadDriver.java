@@ -0,0 +1,127 @@
+package com.taskflow.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open-model load generator: issues requests at a fixed arrival rate regardless of how fast the server
+ * answers, so a slow server shows up as rising latency instead of silently lowering the offered load.
+ * <p>
+ * Latency is measured from each request's <em>scheduled</em> send time, which corrects for coordinated
+ * omission when the generator itself falls behind.
+ */
+public final class LoadDriver {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final HttpClient client;
+
+    public LoadDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Outcome of one scenario run.
+     *
+     * @param name       scenario name
+     * @param requests   completed requests
+     * @param errors     requests that failed or returned a non-2xx status
+     * @param elapsed    wall-clock duration including drain
+     * @param latencies  latency histogram in nanoseconds
+     */
+    public record Result(String name, long requests, long errors, Duration elapsed, Histogram latencies) {
+
+        public double throughput() {
+            return requests / (elapsed.toNanos() / 1e9);
+        }
+
+        public double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+
+    /**
+     * Runs a scenario at a fixed arrival rate.
+     *
+     * @param name          scenario name used in reports
+     * @param request       supplies the request to send (called once per arrival)
+     * @param ratePerSecond arrivals per second
+     * @param duration      how long to generate load
+     * @return aggregated result
+     */
+    public Result run(String name, Supplier<HttpRequest> request, double ratePerSecond, Duration duration) {
+        Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<CompletableFuture<?>> inFlight = new ConcurrentLinkedQueue<>();
+
+        long intervalNanos = (long) (1e9 / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long[] nextArrival = {start};
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+            while (nextArrival[0] <= now && nextArrival[0] < end) {
+                long scheduledAt = nextArrival[0];
+                nextArrival[0] += intervalNanos;
+                CompletableFuture<HttpResponse<Void>> future =
+                        client.sendAsync(request.get(), HttpResponse.BodyHandlers.discarding());
+                inFlight.add(future.whenComplete((response, failure) -> {
+                    recorder.recordValue(Math.min(System.nanoTime() - scheduledAt, MAX_TRACKABLE_NANOS));
+                    completed.incrementAndGet();
+                    if (failure != null || response.statusCode() >= 300) {
+                        errors.incrementAndGet();
+                    }
+                }));
+            }
+            inFlight.removeIf(CompletableFuture::isDone);
+        }, 0, TICK_NANOS, TimeUnit.NANOSECONDS);
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, end - System.nanoTime()));
+            ticker.shutdown();
+            ticker.awaitTermination(5, TimeUnit.SECONDS);
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .orTimeout(60, TimeUnit.SECONDS)
+                    .exceptionally(failure -> null)
+                    .join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ticker.shutdownNow();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new Result(name, completed.get(), errors.get(), elapsed, recorder.getIntervalHistogram());
+    }
+
+    /**
+     * Formats results as a fixed-width table.
+     */
+    public static String report(Iterable<Result> results) {
+        StringBuilder out = new StringBuilder(String.format("%-28s %10s %8s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Result r : results) {
+            out.append(String.format("%-28s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    r.name(), r.requests(), r.errors(), r.throughput(),
+                    r.percentileMillis(50), r.percentileMillis(90), r.percentileMillis(99),
+                    r.latencies().getMaxValue() / 1e6));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package com.taskflow.loadtest;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.taskflow.backend.config.QueryTimingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * End-to-end load test: boots the backend against an embedded PostgreSQL, seeds one user per data
+ * volume, then drives each endpoint in turn at a fixed arrival rate and reports throughput, latency
+ * percentiles and database statements per request.
+ * <p>
+ * Endpoints run one after another rather than mixed, so the statement count read from the backend's
+ * {@code zelvo.db.query} timers can be attributed to a single endpoint. Runs entirely offline.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn -q compile exec:java -Dexec.args="--sizes=10,1000,100000 --rate=50 --duration=30s --out=results.json"
+ * </pre>
+ * Pass {@code --jdbc-url=... --db-user=... --db-password=...} to use an existing database instead.
+ */
+public final class LoadTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "load-test-password";
+
+    private LoadTestHarness() {
+    }
+
+    /**
+     * One endpoint's result, with the average number of JDBC statements it executed per request.
+     */
+    record EndpointResult(LoadDriver.Result result, double queriesPerRequest) {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = ThreadModeComparison.parseOptions(args);
+        List<Integer> sizes = Arrays.stream(options.getOrDefault("sizes", "10,1000,100000").split(","))
+                .map(String::trim).map(Integer::valueOf).toList();
+        double rate = Double.parseDouble(options.getOrDefault("rate", "50"));
+        double loginRate = Double.parseDouble(options.getOrDefault("login-rate", "5"));
+        Duration duration = ThreadModeComparison.parseDuration(options.getOrDefault("duration", "30s"));
+        Duration warmup = ThreadModeComparison.parseDuration(options.getOrDefault("warmup", "5s"));
+
+        List<String> appArgs = new ArrayList<>();
+        if (options.containsKey("profile")) {
+            appArgs.add("--spring.profiles.active=" + options.get("profile"));
+        }
+
+        try (EmbeddedBackend backend = EmbeddedBackend.start(options.get("jdbc-url"), options.get("db-user"),
+                options.get("db-password"), appArgs)) {
+            DataSource dataSource = backend.context().getBean(DataSource.class);
+            MeterRegistry registry = backend.context().getBean(MeterRegistry.class);
+            String passwordHash = backend.context().getBean(PasswordEncoder.class).encode(PASSWORD);
+
+            System.out.println("Seeding users with " + sizes + " tasks...");
+            DataSeeder seeder = new DataSeeder(dataSource);
+            List<DataSeeder.SeededUser> users = seeder.seed(sizes, passwordHash);
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            LoadDriver driver = new LoadDriver(client);
+            String baseUrl = backend.baseUrl();
+
+            Map<String, String> tokens = new LinkedHashMap<>();
+            for (DataSeeder.SeededUser user : users) {
+                tokens.put(user.email(), ThreadModeComparison.login(client, baseUrl, user.email(), PASSWORD));
+            }
+            // Write scenarios run as the mid-sized user
+            DataSeeder.SeededUser writer = users.get(users.size() / 2);
+            String writerToken = tokens.get(writer.email());
+            List<Long> updateIds = seeder.taskIds(writer.id(), 1000);
+
+            Map<String, Scenario> scenarios = new LinkedHashMap<>();
+            String loginBody = MAPPER.writeValueAsString(Map.of("email", writer.email(), "password", PASSWORD));
+            scenarios.put("POST /auth/login", new Scenario(loginRate,
+                    () -> json(baseUrl + "/api/v1/auth/login", null).POST(body(loginBody)).build()));
+            for (DataSeeder.SeededUser user : users) {
+                String token = tokens.get(user.email());
+                HttpRequest list = get(baseUrl + "/api/v1/tasks?page=0&size=20", token);
+                scenarios.put("GET /tasks (" + user.taskCount() + " tasks)", new Scenario(rate, () -> list));
+                HttpRequest byDueDate = get(baseUrl + "/api/v1/tasks?page=0&size=20&sort=dueDate&direction=asc", token);
+                scenarios.put("GET /tasks?sort=dueDate (" + user.taskCount() + ")", new Scenario(rate, () -> byDueDate));
+            }
+            AtomicInteger created = new AtomicInteger();
+            scenarios.put("POST /tasks", new Scenario(rate, () -> json(baseUrl + "/api/v1/tasks", writerToken)
+                    .POST(body(taskJson("Created " + created.incrementAndGet()))).build()));
+            if (!updateIds.isEmpty()) {
+                AtomicInteger next = new AtomicInteger();
+                scenarios.put("PUT /tasks/{id}", new Scenario(rate, () -> {
+                    long id = updateIds.get(Math.floorMod(next.getAndIncrement(), updateIds.size()));
+                    return json(baseUrl + "/api/v1/tasks/" + id, writerToken)
+                            .PUT(body(taskJson("Updated " + id))).build();
+                }));
+            }
+            scenarios.put("POST /tasks/bulk (20)", new Scenario(Math.max(1, rate / 10),
+                    () -> json(baseUrl + "/api/v1/tasks/bulk", writerToken).POST(body(bulkJson(20))).build()));
+            HttpRequest categories = get(baseUrl + "/api/v1/categories", writerToken);
+            scenarios.put("GET /categories", new Scenario(rate, () -> categories));
+
+            Map<String, EndpointResult> results = new LinkedHashMap<>();
+            for (Map.Entry<String, Scenario> entry : scenarios.entrySet()) {
+                Scenario scenario = entry.getValue();
+                driver.run(entry.getKey() + " warm-up", scenario.request(), scenario.rate(), warmup);
+                long queriesBefore = queryCount(registry);
+                LoadDriver.Result result = driver.run(entry.getKey(), scenario.request(), scenario.rate(), duration);
+                long queries = queryCount(registry) - queriesBefore;
+                results.put(entry.getKey(), new EndpointResult(result,
+                        result.requests() == 0 ? 0 : (double) queries / result.requests()));
+                System.out.println("  finished " + entry.getKey());
+            }
+
+            System.out.print(report(results.values()));
+            if (options.containsKey("out")) {
+                writeJson(new File(options.get("out")), results.values());
+            }
+        }
+    }
+
+    private record Scenario(double rate, Supplier<HttpRequest> request) {}
+
+    private static long queryCount(MeterRegistry registry) {
+        return registry.find(QueryTimingDataSource.METRIC).timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest.Builder json(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static HttpRequest.BodyPublisher body(String json) {
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+
+    private static String taskJson(String title) {
+        ObjectNode task = MAPPER.createObjectNode()
+                .put("title", title)
+                .put("description", "Load test task")
+                .put("priority", "MEDIUM")
+                .put("status", "TODO")
+                .put("dueDate", "2030-01-01");
+        task.putArray("labels").add("load").add("test");
+        return task.toString();
+    }
+
+    private static String bulkJson(int count) {
+        ArrayNode tasks = MAPPER.createArrayNode();
+        for (int i = 0; i < count; i++) {
+            tasks.addObject().put("title", "Bulk " + i).put("priority", "LOW").put("status", "TODO");
+        }
+        return tasks.toString();
+    }
+
+    static String report(Iterable<EndpointResult> results) {
+        StringBuilder out = new StringBuilder(String.format("%-36s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "sql/req"));
+        for (EndpointResult endpoint : results) {
+            LoadDriver.Result r = endpoint.result();
+            out.append(String.format("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.1f%n",
+                    r.name(), r.requests(), r.errors(), r.throughput(),
+                    r.percentileMillis(50), r.percentileMillis(90), r.percentileMillis(99),
+                    r.latencies().getMaxValue() / 1e6, endpoint.queriesPerRequest()));
+        }
+        return out.toString();
+    }
+
+    // Machine-readable copy of the report, for comparing runs across commits
+    private static void writeJson(File file, Iterable<EndpointResult> results) throws Exception {
+        ArrayNode array = MAPPER.createArrayNode();
+        for (EndpointResult endpoint : results) {
+            LoadDriver.Result r = endpoint.result();
+            array.addObject()
+                    .put("endpoint", r.name())
+                    .put("requests", r.requests())
+                    .put("errors", r.errors())
+                    .put("throughput", r.throughput())
+                    .put("p50Ms", r.percentileMillis(50))
+                    .put("p90Ms", r.percentileMillis(90))
+                    .put("p99Ms", r.percentileMillis(99))
+                    .put("maxMs", r.latencies().getMaxValue() / 1e6)
+                    .put("queriesPerRequest", endpoint.queriesPerRequest());
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, array);
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskflow.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the same fixed-rate scenario against two running backends, one on platform threads and one
+ * started with the {@code virtual-threads} profile, and prints latency and throughput side by side.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.taskflow.loadtest.ThreadModeComparison \
+ *     -Dexec.args="--platform=http://localhost:8080 --virtual=http://localhost:8081 \
+ *     --email=load@example.com --password=secret --rate=300 --duration=60s --path=/api/v1/tasks"
+ * </pre>
+ */
+public final class ThreadModeComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String email = required(options, "email");
+        String password = required(options, "password");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "60s"));
+        String path = options.getOrDefault("path", "/api/v1/tasks");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        LoadDriver driver = new LoadDriver(client);
+
+        List<LoadDriver.Result> results = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual")) {
+            String baseUrl = required(options, mode);
+            String token = login(client, baseUrl, email, password);
+            URI target = URI.create(baseUrl + path);
+            HttpRequest request = HttpRequest.newBuilder(target)
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            // Short warm-up so JIT and connection pools settle before measuring
+            driver.run(mode + " warm-up", () -> request, rate, Duration.ofSeconds(10));
+            results.add(driver.run(mode + " " + path, () -> request, rate, duration));
+        }
+
+        System.out.print(LoadDriver.report(results));
+    }
+
+    static String login(HttpClient client, String baseUrl, String email, String password) throws Exception {
+        String body = MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login against " + baseUrl + " failed: HTTP " + response.statusCode());
+        }
+        JsonNode json = MAPPER.readTree(response.body());
+        return json.path("data").path("token").asText();
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    static Duration parseDuration(String value) {
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + name + "=...");
+        }
+        return value;
+    }
+}